@@ -32,6 +32,7 @@ import org.omnifaces.cdi.push.Socket;
 import org.omnifaces.component.output.Cache;
 import org.omnifaces.config.OmniFaces;
 import org.omnifaces.eventlistener.DefaultServletContextListener;
+import org.omnifaces.eventlistener.FacesRequestTimings;
 import org.omnifaces.facesviews.FacesViews;
 import org.omnifaces.resourcehandler.GraphicResource;
 import org.omnifaces.resourcehandler.ViewResourceHandler;
@@ -52,6 +53,9 @@ import org.omnifaces.util.cache.CacheInitializer;
  * <li>Register {@link Socket} endpoint if necessary.
  * </ol>
  * <p>
+ * When the servlet context is destroyed, this stops watching {@link FacesViews} scan paths for changes, if any, and
+ * stops exporting {@link FacesRequestTimings}, if any.
+ * <p>
  * This is invoked <strong>after</strong> {@link ApplicationInitializer} and <strong>before</strong> {@link ApplicationProcessor}.
  * If any exception is thrown, then the deployment will fail, unless the {@value OmniFaces#PARAM_NAME_SKIP_DEPLOYMENT_EXCEPTION}
  * context parameter is set to <code>true</code>, it will then merely log a WARNING line.
@@ -108,6 +112,12 @@ public class ApplicationListener extends DefaultServletContextListener {
 		}
 	}
 
+	@Override
+	public void contextDestroyed(ServletContextEvent event) {
+		FacesViews.stopWatchingViews(event.getServletContext());
+		FacesRequestTimings.destroy(event.getServletContext());
+	}
+
 	private void checkFacesAvailable() {
 		try {
 			checkFacesAPIAvailable();
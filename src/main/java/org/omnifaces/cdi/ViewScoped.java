@@ -150,7 +150,31 @@ import org.omnifaces.viewhandler.OmniViewHandler;
  * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#DEFAULT_MAX_ACTIVE_VIEW_SCOPES} will be used. When a view scoped
  * bean is evicted from the LRU map, then its <code>&#64;PreDestroy</code> will also guaranteed to be invoked.
  * <p>
- * This setting has no effect when <code>saveInViewState</code> attribute is set to <code>true</code>.
+ * Since OmniFaces 4.4, active view scopes which have been idle for a certain amount of minutes can be passivated to a
+ * compact serialized form in HTTP session by setting the context parameter
+ * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES} to the
+ * desired amount of minutes. This reduces the heap usage of the HTTP session and the payload of session replication
+ * when the user has many tabs open. The passivated view scope will be lazily restored on next access. The passivated
+ * form can additionally be compressed by setting the context parameter
+ * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#PARAM_NAME_COMPRESS_PASSIVATED_VIEW_SCOPES} to
+ * <code>true</code>. Note that a restored view scoped bean is a deserialized copy of the original instance, exactly as
+ * it would be after session replication. The idle view scopes are checked at most once per minute per session, during
+ * the request which happens to access a view scope at that moment. A view scope which cannot be serialized will stay
+ * active and will not be attempted to be passivated again.
+ * <p>
+ * Since OmniFaces 4.4, the generation of the view scope identifiers can be customized by setting the context parameter
+ * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#PARAM_NAME_ID_GENERATOR} to the fully qualified name of a
+ * {@link org.omnifaces.cdi.viewscope.ViewScopeIdGenerator} implementation. The default implementation generates random
+ * UUIDs using a {@link java.security.SecureRandom} per thread.
+ * <p>
+ * Since OmniFaces 4.4, the view scoped beans which are destroyed on unload or navigation can be destroyed asynchronously
+ * in batches by setting the context parameter
+ * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#PARAM_NAME_DESTROY_ASYNCHRONOUSLY} to <code>true</code>. This
+ * requires the <code>java:comp/DefaultManagedExecutorService</code> of Jakarta Concurrency to be available, else the
+ * beans will still be destroyed synchronously. Note that the <code>&#64;PreDestroy</code> method will then not have
+ * access to the Faces context nor the request scope.
+ * <p>
+ * These settings have no effect when <code>saveInViewState</code> attribute is set to <code>true</code>.
  *
  * <h2>Using window.onbeforeunload</h2>
  * <p>
@@ -12,14 +12,19 @@
  */
 package org.omnifaces.cdi.viewscope;
 
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+
+import java.util.Set;
+
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessBean;
 
 import org.omnifaces.cdi.ViewScoped;
 
 /**
- * Register the CDI view scope context.
+ * Register the CDI view scope context and collect the metadata of view scoped beans for {@link ViewScopeManager}.
  *
  * @author Radu Creanga {@literal <rdcrng@gmail.com>}
  * @author Bauke Scholtz
@@ -30,6 +35,10 @@ import org.omnifaces.cdi.ViewScoped;
  */
 public class ViewScopeExtension implements Extension {
 
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final Set<Class<?>> beanClassesSavingInViewState = newKeySet();
+
 	// Actions --------------------------------------------------------------------------------------------------------
 
 	/**
@@ -41,4 +50,32 @@ public class ViewScopeExtension implements Extension {
 		event.addContext(new ViewScopeContext());
 	}
 
+	/**
+	 * Collect bean classes annotated with <code>&#64;</code>{@link ViewScoped}<code>(saveInViewState=true)</code>, so
+	 * that {@link ViewScopeManager} doesn't need to inspect the annotation on every bean resolution.
+	 * @param <T> The generic bean type.
+	 * @param event The process bean event.
+	 * @since 4.4
+	 */
+	protected <T> void collectBeanClassesSavingInViewState(@Observes ProcessBean<T> event) {
+		Class<?> beanClass = event.getBean().getBeanClass();
+		ViewScoped annotation = beanClass.getAnnotation(ViewScoped.class);
+
+		if (annotation != null && annotation.saveInViewState()) { // Can be null when declared on producer method.
+			beanClassesSavingInViewState.add(beanClass);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given bean class is annotated with
+	 * <code>&#64;</code>{@link ViewScoped}<code>(saveInViewState=true)</code>.
+	 * @param beanClass The bean class.
+	 * @return <code>true</code> if the given bean class is annotated with
+	 * <code>&#64;</code>{@link ViewScoped}<code>(saveInViewState=true)</code>.
+	 * @since 4.4
+	 */
+	public boolean isSaveInViewState(Class<?> beanClass) {
+		return beanClassesSavingInViewState.contains(beanClass);
+	}
+
 }
\ No newline at end of file
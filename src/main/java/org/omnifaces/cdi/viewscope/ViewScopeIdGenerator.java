@@ -0,0 +1,89 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.cdi.viewscope;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.omnifaces.cdi.ViewScoped;
+
+/**
+ * Interface for view scope bean storage ID generator. The generated ID is used to identify the view scope in
+ * {@link ViewScopeStorage} and is also sent to the client for the unload request, so it must be unguessable. A custom
+ * implementation can be configured via the context parameter
+ * {@value org.omnifaces.cdi.viewscope.ViewScopeManager#PARAM_NAME_ID_GENERATOR}. It must have a public default
+ * constructor and be thread safe.
+ *
+ * @author Bauke Scholtz
+ * @see ViewScoped
+ * @see ViewScopeManager
+ * @since 4.4
+ */
+@FunctionalInterface
+public interface ViewScopeIdGenerator {
+
+	/**
+	 * Returns a new unguessable view scope bean storage ID.
+	 * @return A new unguessable view scope bean storage ID.
+	 */
+	public UUID generateId();
+
+	/**
+	 * The default view scope bean storage ID generator. It generates random type 4 UUIDs like
+	 * {@link UUID#randomUUID()}, but with a {@link SecureRandom} per thread instead of a single shared one, so that
+	 * threads don't contend with each other under high load. It prefers the <code>DRBG</code> and then the
+	 * <code>SHA1PRNG</code> algorithm, because the platform default <code>NativePRNG</code> on Linux funnels all instances
+	 * through one shared lock anyway.
+	 */
+	public static final class Default implements ViewScopeIdGenerator {
+
+		private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(Default::newSecureRandom);
+
+		@Override
+		public UUID generateId() {
+			byte[] bytes = new byte[16];
+			RANDOM.get().nextBytes(bytes);
+			bytes[6] &= 0x0f; // Clear version.
+			bytes[6] |= 0x40; // Set to version 4.
+			bytes[8] &= 0x3f; // Clear variant.
+			bytes[8] |= 0x80; // Set to IETF variant.
+			return new UUID(toLong(bytes, 0), toLong(bytes, 8));
+		}
+
+		private static SecureRandom newSecureRandom() {
+			try {
+				return SecureRandom.getInstance("DRBG");
+			}
+			catch (NoSuchAlgorithmException ignore) {
+				try {
+					return SecureRandom.getInstance("SHA1PRNG");
+				}
+				catch (NoSuchAlgorithmException ignoreAgain) {
+					return new SecureRandom();
+				}
+			}
+		}
+
+		private static long toLong(byte[] bytes, int offset) {
+			long value = 0;
+
+			for (int i = offset; i < offset + 8; i++) {
+				value = (value << 8) | (bytes[i] & 0xff);
+			}
+
+			return value;
+		}
+	}
+
+}
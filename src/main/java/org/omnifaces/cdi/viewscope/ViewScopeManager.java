@@ -12,6 +12,7 @@
  */
 package org.omnifaces.cdi.viewscope;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.util.logging.Level.FINEST;
 import static org.omnifaces.config.OmniFaces.OMNIFACES_EVENT_PARAM_NAME;
@@ -22,13 +23,22 @@ import static org.omnifaces.util.Components.addFacesScriptResource;
 import static org.omnifaces.util.Components.addFormIfNecessary;
 import static org.omnifaces.util.Components.addScript;
 import static org.omnifaces.util.Components.addScriptResource;
+import static org.omnifaces.util.Faces.getInitParameter;
 import static org.omnifaces.util.Faces.getViewId;
 import static org.omnifaces.util.Faces.getViewRoot;
 import static org.omnifaces.util.FacesLocal.getRequest;
 import static org.omnifaces.util.FacesLocal.getRequestParameter;
 import static org.omnifaces.util.FacesLocal.isAjaxRequestWithPartialRendering;
+import static org.omnifaces.util.Reflection.instance;
 
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,6 +53,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import org.omnifaces.cdi.BeanStorage;
 import org.omnifaces.cdi.ViewScoped;
+import org.omnifaces.util.JNDI;
 
 /**
  * Manages view scoped bean creation and destroy. The creation is initiated by {@link ViewScopeContext} which is
@@ -79,11 +90,46 @@ public class ViewScopeManager {
 	/** Default value of maximum active view scopes in session. */
 	public static final int DEFAULT_MAX_ACTIVE_VIEW_SCOPES = 20; // Mojarra's default is 15 and MyFaces' default is 20.
 
+	/**
+	 * OmniFaces specific context parameter name of amount of minutes of inactivity after which an active view scope in
+	 * session is passivated to a compact serialized form. Defaults to 0, meaning that passivation is disabled.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES =
+		"org.omnifaces.VIEW_SCOPE_MANAGER_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES";
+
+	/**
+	 * OmniFaces specific context parameter name of whether passivated view scopes in session should be compressed.
+	 * Defaults to false.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_COMPRESS_PASSIVATED_VIEW_SCOPES =
+		"org.omnifaces.VIEW_SCOPE_MANAGER_COMPRESS_PASSIVATED_VIEW_SCOPES";
+
+	/**
+	 * OmniFaces specific context parameter name of fully qualified name of {@link ViewScopeIdGenerator} implementation.
+	 * Defaults to {@link ViewScopeIdGenerator.Default}.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_ID_GENERATOR =
+		"org.omnifaces.VIEW_SCOPE_MANAGER_ID_GENERATOR";
+
+	/**
+	 * OmniFaces specific context parameter name of whether view scoped beans in session should be destroyed
+	 * asynchronously in batches on the default managed executor service. This applies to view scopes destroyed on
+	 * unload or navigation, to view scopes evicted from the LRU map, and to view scopes destroyed on session expiry.
+	 * Defaults to false.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_DESTROY_ASYNCHRONOUSLY =
+		"org.omnifaces.VIEW_SCOPE_MANAGER_DESTROY_ASYNCHRONOUSLY";
+
 	// Private constants ----------------------------------------------------------------------------------------------
 
 	private static final Logger logger = Logger.getLogger(ViewScopeManager.class.getName());
 
 	private static final String SCRIPT_INIT = "OmniFaces.Unload.init('%s')";
+	private static final String DEFAULT_MANAGED_EXECUTOR_SERVICE = "java:comp/DefaultManagedExecutorService";
 	private static final int DEFAULT_BEANS_PER_VIEW_SCOPE = 3;
 
 	private static final String WARNING_UNSUPPORTED_STATE_SAVING = "@ViewScoped %s"
@@ -91,9 +137,17 @@ public class ViewScopeManager {
 			+ " The current view %s is stateless and this may cause memory leaks."
 			+ " Consider subclassing the bean with @jakarta.faces.view.ViewScoped annotation.";
 
+	private static final String WARNING_NO_MANAGED_EXECUTOR_SERVICE = "%s is set to true, but there is no %s available."
+			+ " View scoped beans will be destroyed synchronously instead.";
+
+	private static final String WARNING_DESTROY_FAILED = "Destroying view scoped beans asynchronously has failed.";
+
 	private static final String ERROR_INVALID_STATE_SAVING = "@ViewScoped(saveInViewState=true) %s"
 			+ " requires web.xml context parameter 'jakarta.faces.STATE_SAVING_METHOD' being set to 'client'.";
 
+	private static final String ERROR_INVALID_ID_GENERATOR = "Context parameter '%s' must represent a fully qualified"
+			+ " name of a class implementing %s, but it is '%s'.";
+
 	// Variables ------------------------------------------------------------------------------------------------------
 
 	@Inject
@@ -105,6 +159,15 @@ public class ViewScopeManager {
 	@Inject
 	private ViewScopeStorageInViewState storageInViewState;
 
+	@Inject
+	private ViewScopeExtension extension;
+
+	private final ConcurrentMap<Class<?>, ViewScopeStorage> storagesByBeanClass = new ConcurrentHashMap<>();
+
+	private volatile ViewScopeIdGenerator idGenerator;
+
+	private volatile Executor destroyExecutor;
+
 	// Actions --------------------------------------------------------------------------------------------------------
 
 	/**
@@ -155,29 +218,57 @@ public class ViewScopeManager {
 			}
 
 			if (beanStorageId != null) {
-				storageInSession.destroyBeans(beanStorageId);
+				storageInSession.destroyBeans(beanStorageId, getDestroyExecutor());
 			}
 		}
 
 		// View scoped beans stored in client side Faces view state are per definition undestroyable, therefore storageInViewState is ignored here.
 	}
 
-	// Helpers --------------------------------------------------------------------------------------------------------
+	/**
+	 * Returns the executor to destroy view scoped beans with. This is a batching executor on the default managed
+	 * executor service when {@link #PARAM_NAME_DESTROY_ASYNCHRONOUSLY} is enabled, else it runs synchronously. When
+	 * this is not yet determined and there is no faces context, e.g. during a session expiry on a background thread,
+	 * then this runs synchronously.
+	 * @return The executor to destroy view scoped beans with.
+	 * @since 4.4
+	 */
+	public Executor getDestroyExecutor() {
+		if (destroyExecutor == null) {
+			if (FacesContext.getCurrentInstance() == null) {
+				return Runnable::run;
+			}
 
-	private <T> BeanStorage getBeanStorage(Contextual<T> type) {
-		ViewScopeStorage storage = storageInSession;
-		Class<?> beanClass = ((Bean<T>) type).getBeanClass();
-		ViewScoped annotation = beanClass.getAnnotation(ViewScoped.class);
+			Executor executor = null;
+
+			if (parseBoolean(getInitParameter(PARAM_NAME_DESTROY_ASYNCHRONOUSLY))) {
+				try {
+					executor = JNDI.lookup(DEFAULT_MANAGED_EXECUTOR_SERVICE);
+				}
+				catch (IllegalStateException ignore) {
+					logger.log(FINEST, "Ignoring thrown exception; the sole intent is to fall back to synchronous destroy.", ignore);
+				}
 
-		if (annotation != null && annotation.saveInViewState()) { // Can be null when declared on producer method.
-			checkStateSavingMethod(beanClass);
-			storage = storageInViewState;
+				if (executor == null) {
+					logger.log(Level.WARNING, format(WARNING_NO_MANAGED_EXECUTOR_SERVICE, PARAM_NAME_DESTROY_ASYNCHRONOUSLY, DEFAULT_MANAGED_EXECUTOR_SERVICE));
+				}
+			}
+
+			destroyExecutor = (executor != null) ? new BatchingExecutor(executor) : Runnable::run;
 		}
 
+		return destroyExecutor;
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private <T> BeanStorage getBeanStorage(Contextual<T> type) {
+		Class<?> beanClass = ((Bean<T>) type).getBeanClass();
+		ViewScopeStorage storage = storagesByBeanClass.computeIfAbsent(beanClass, this::getViewScopeStorage);
 		UUID beanStorageId = storage.getBeanStorageId();
 
 		if (beanStorageId == null) {
-			beanStorageId = UUID.randomUUID();
+			beanStorageId = getIdGenerator().generateId();
 
 			if (storage instanceof ViewScopeStorageInSession) {
 				if (getViewRoot().isTransient()) {
@@ -192,6 +283,7 @@ public class ViewScopeManager {
 		BeanStorage beanStorage = storage.getBeanStorage(beanStorageId);
 
 		if (beanStorage == null) {
+			getDestroyExecutor(); // Determine it while faces context is available, it may be needed when session expires.
 			beanStorage = new BeanStorage(DEFAULT_BEANS_PER_VIEW_SCOPE);
 			storage.setBeanStorage(beanStorageId, beanStorage);
 		}
@@ -199,6 +291,37 @@ public class ViewScopeManager {
 		return beanStorage;
 	}
 
+	private ViewScopeIdGenerator getIdGenerator() {
+		if (idGenerator == null) {
+			String idGeneratorClassName = getInitParameter(PARAM_NAME_ID_GENERATOR);
+
+			if (idGeneratorClassName == null) {
+				idGenerator = new ViewScopeIdGenerator.Default();
+			}
+			else {
+				Object instance = instance(idGeneratorClassName);
+
+				if (!(instance instanceof ViewScopeIdGenerator)) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_ID_GENERATOR,
+						PARAM_NAME_ID_GENERATOR, ViewScopeIdGenerator.class.getName(), idGeneratorClassName));
+				}
+
+				idGenerator = (ViewScopeIdGenerator) instance;
+			}
+		}
+
+		return idGenerator;
+	}
+
+	private ViewScopeStorage getViewScopeStorage(Class<?> beanClass) {
+		if (extension.isSaveInViewState(beanClass)) {
+			checkStateSavingMethod(beanClass); // When this throws, nothing is cached and it will be checked again next time.
+			return storageInViewState;
+		}
+
+		return storageInSession;
+	}
+
 	private void checkStateSavingMethod(Class<?> beanClass) {
 		FacesContext context = FacesContext.getCurrentInstance();
 
@@ -237,4 +360,57 @@ public class ViewScopeManager {
 		return "unload".equals(request.getParameter(OMNIFACES_EVENT_PARAM_NAME));
 	}
 
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Queues the tasks and runs all queued tasks in a single batch on the given executor, so that a burst of destroys
+	 * results in only a few executor tasks instead of one per destroy.
+	 */
+	private static final class BatchingExecutor implements Executor {
+
+		private final Executor executor;
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		BatchingExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			tasks.add(task);
+			scheduleIfNecessary();
+		}
+
+		private void scheduleIfNecessary() {
+			if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::runAll);
+				}
+				catch (RejectedExecutionException e) {
+					logger.log(FINEST, "Ignoring thrown exception; the sole intent is to run the tasks synchronously.", e);
+					runAll();
+				}
+			}
+		}
+
+		private void runAll() {
+			try {
+				for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+					try {
+						task.run();
+					}
+					catch (Exception e) {
+						logger.log(Level.WARNING, WARNING_DESTROY_FAILED, e);
+					}
+				}
+			}
+			finally {
+				scheduled.set(false);
+			}
+
+			scheduleIfNecessary(); // Any tasks which were queued in meanwhile.
+		}
+	}
+
 }
\ No newline at end of file
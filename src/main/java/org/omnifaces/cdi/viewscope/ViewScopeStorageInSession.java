@@ -12,18 +12,36 @@
  */
 package org.omnifaces.cdi.viewscope;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.logging.Level.WARNING;
 import static org.omnifaces.cdi.viewscope.ViewScopeManager.DEFAULT_MAX_ACTIVE_VIEW_SCOPES;
+import static org.omnifaces.cdi.viewscope.ViewScopeManager.PARAM_NAME_COMPRESS_PASSIVATED_VIEW_SCOPES;
 import static org.omnifaces.cdi.viewscope.ViewScopeManager.PARAM_NAME_MAX_ACTIVE_VIEW_SCOPES;
 import static org.omnifaces.cdi.viewscope.ViewScopeManager.PARAM_NAME_MOJARRA_NUMBER_OF_VIEWS;
 import static org.omnifaces.cdi.viewscope.ViewScopeManager.PARAM_NAME_MYFACES_NUMBER_OF_VIEWS;
+import static org.omnifaces.cdi.viewscope.ViewScopeManager.PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES;
+import static org.omnifaces.util.Beans.getReference;
 import static org.omnifaces.util.Faces.getInitParameter;
 import static org.omnifaces.util.Faces.getViewAttribute;
 import static org.omnifaces.util.Faces.setViewAttribute;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -35,7 +53,8 @@ import org.omnifaces.util.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import org.omnifaces.util.concurrentlinkedhashmap.EvictionListener;
 
 /**
- * Stores view scoped bean instances in a LRU map in HTTP session.
+ * Stores view scoped bean instances in a LRU map in HTTP session. Since 4.4, idle view scopes can optionally be
+ * passivated to a compact serialized form, see {@link ViewScopeManager#PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES}.
  *
  * @author Bauke Scholtz
  * @see ViewScoped
@@ -48,19 +67,31 @@ public class ViewScopeStorageInSession implements ViewScopeStorage, Serializable
 	// Private constants ----------------------------------------------------------------------------------------------
 
 	private static final long serialVersionUID = 1L;
+	private static final Logger logger = Logger.getLogger(ViewScopeStorageInSession.class.getName());
 	private static final String[] PARAM_NAMES_MAX_ACTIVE_VIEW_SCOPES = {
 		PARAM_NAME_MAX_ACTIVE_VIEW_SCOPES, PARAM_NAME_MOJARRA_NUMBER_OF_VIEWS, PARAM_NAME_MYFACES_NUMBER_OF_VIEWS
 	};
+	private static final long PASSIVATION_CHECK_INTERVAL_IN_MILLIS = MINUTES.toMillis(1);
 	private static final String ERROR_MAX_ACTIVE_VIEW_SCOPES = "The '%s' init param must be a number."
 		+ " Encountered an invalid value of '%s'.";
+	private static final String ERROR_PASSIVATE_IDLE_VIEW_SCOPES = "The '%s' init param must be the amount of idle minutes"
+		+ " after which view scopes are passivated, or 0 to disable passivation. Encountered an invalid value of '%s'.";
+	private static final String WARNING_PASSIVATE_VIEW_SCOPE = "Cannot passivate idle view scope;"
+		+ " it will stay active and passivation will not be attempted again.";
+	private static final String WARNING_DESTROY_PASSIVATED_VIEW_SCOPE = "Cannot restore passivated view scope;"
+		+ " its beans will not be destroyed.";
+	private static final String ERROR_RESTORE_VIEW_SCOPE = "Cannot restore passivated view scope.";
 
 	// Static variables -----------------------------------------------------------------------------------------------
 
 	private static Integer maxActiveViewScopes;
+	private static Long passivateIdleViewScopesAfterMillis;
+	private static Boolean compressPassivatedViewScopes;
 
 	// Variables ------------------------------------------------------------------------------------------------------
 
-	private ConcurrentMap<UUID, BeanStorage> activeViewScopes;
+	private ConcurrentMap<UUID, ActiveViewScope> activeViewScopes;
+	private volatile long lastPassivationCheck;
 
 	// Actions --------------------------------------------------------------------------------------------------------
 
@@ -70,10 +101,11 @@ public class ViewScopeStorageInSession implements ViewScopeStorage, Serializable
 	 */
 	@PostConstruct
 	public void postConstructSession() {
-		activeViewScopes = new ConcurrentLinkedHashMap.Builder<UUID, BeanStorage>()
+		activeViewScopes = new ConcurrentLinkedHashMap.Builder<UUID, ActiveViewScope>()
 			.maximumWeightedCapacity(getMaxActiveViewScopes())
 			.listener(new BeanStorageEvictionListener())
 			.build();
+		lastPassivationCheck = System.currentTimeMillis();
 	}
 
 	@Override
@@ -84,12 +116,15 @@ public class ViewScopeStorageInSession implements ViewScopeStorage, Serializable
 
 	@Override
 	public BeanStorage getBeanStorage(UUID beanStorageId) {
-		return activeViewScopes.get(beanStorageId);
+		ActiveViewScope activeViewScope = activeViewScopes.get(beanStorageId);
+		BeanStorage beanStorage = (activeViewScope != null) ? activeViewScope.getBeanStorage() : null;
+		passivateIdleViewScopesIfNecessary();
+		return beanStorage;
 	}
 
 	@Override
 	public void setBeanStorage(UUID beanStorageId, BeanStorage beanStorage) {
-		activeViewScopes.put(beanStorageId, beanStorage);
+		activeViewScopes.put(beanStorageId, new ActiveViewScope(beanStorage));
 		setViewAttribute(getClass().getName(), beanStorageId);
 	}
 
@@ -98,25 +133,71 @@ public class ViewScopeStorageInSession implements ViewScopeStorage, Serializable
 	 * @param beanStorageId The bean storage identifier.
 	 */
 	public void destroyBeans(UUID beanStorageId) {
-		BeanStorage storage = activeViewScopes.remove(beanStorageId);
+		destroyBeans(beanStorageId, Runnable::run);
+	}
+
+	/**
+	 * Removes the view scope associated with given bean storage identifier and destroys all of its beans using the
+	 * given executor.
+	 * @param beanStorageId The bean storage identifier.
+	 * @param executor The executor to destroy the beans with.
+	 * @since 4.4
+	 */
+	public void destroyBeans(UUID beanStorageId, Executor executor) {
+		ActiveViewScope activeViewScope = activeViewScopes.remove(beanStorageId);
 
-		if (storage != null) {
-			storage.destroyBeans();
+		if (activeViewScope != null) {
+			executor.execute(activeViewScope::destroyBeans);
 		}
 	}
 
 	/**
-	 * This method is invoked during session destroy, in that case destroy all beans in all active view scopes.
+	 * This method is invoked during session destroy, in that case destroy all beans in all active view scopes using
+	 * {@link ViewScopeManager#getDestroyExecutor()}.
 	 */
 	@PreDestroy
 	public void preDestroySession() {
-		for (BeanStorage storage : activeViewScopes.values()) {
-			storage.destroyBeans();
+		Executor executor = getDestroyExecutor();
+
+		for (ActiveViewScope activeViewScope : activeViewScopes.values()) {
+			executor.execute(activeViewScope::destroyBeans);
 		}
 	}
 
 	// Helpers --------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Passivate all active view scopes which have been idle for longer than the configured amount of minutes. This is
+	 * checked at most once per minute per session.
+	 */
+	private void passivateIdleViewScopesIfNecessary() {
+		long idleThreshold = getPassivateIdleViewScopesAfterMillis();
+
+		if (idleThreshold <= 0) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+
+		if (now - lastPassivationCheck < PASSIVATION_CHECK_INTERVAL_IN_MILLIS) {
+			return;
+		}
+
+		lastPassivationCheck = now;
+
+		for (ActiveViewScope activeViewScope : activeViewScopes.values()) {
+			activeViewScope.passivateIfIdleSince(now - idleThreshold);
+		}
+	}
+
+	/**
+	 * Returns the executor to destroy view scoped beans with, see {@link ViewScopeManager#getDestroyExecutor()}.
+	 */
+	private static Executor getDestroyExecutor() {
+		ViewScopeManager manager = getReference(ViewScopeManager.class);
+		return (manager != null) ? manager.getDestroyExecutor() : Runnable::run;
+	}
+
 	/**
 	 * Returns the max active view scopes depending on available context params. This will be calculated lazily once
 	 * and re-returned everytime; the faces context is namely not available during class' initialization/construction,
@@ -145,19 +226,161 @@ public class ViewScopeStorageInSession implements ViewScopeStorage, Serializable
 		return maxActiveViewScopes;
 	}
 
+	/**
+	 * Returns the idle time in milliseconds after which active view scopes will be passivated, or 0 when passivation
+	 * is disabled. This will be calculated lazily once and re-returned everytime.
+	 */
+	private static long getPassivateIdleViewScopesAfterMillis() {
+		if (passivateIdleViewScopesAfterMillis != null) {
+			return passivateIdleViewScopesAfterMillis;
+		}
+
+		String value = getInitParameter(PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES);
+		long minutes;
+
+		try {
+			minutes = (value != null) ? Long.parseLong(value.trim()) : 0L;
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException(format(ERROR_PASSIVATE_IDLE_VIEW_SCOPES, PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES, value), e);
+		}
+
+		if (minutes < 0) {
+			throw new IllegalArgumentException(format(ERROR_PASSIVATE_IDLE_VIEW_SCOPES, PARAM_NAME_PASSIVATE_IDLE_VIEW_SCOPES_AFTER_MINUTES, value));
+		}
+
+		passivateIdleViewScopesAfterMillis = MINUTES.toMillis(minutes);
+		return passivateIdleViewScopesAfterMillis;
+	}
+
+	/**
+	 * Returns whether passivated view scopes should be compressed. This will be calculated lazily once and re-returned
+	 * everytime.
+	 */
+	private static boolean isCompressPassivatedViewScopes() {
+		if (compressPassivatedViewScopes == null) {
+			compressPassivatedViewScopes = parseBoolean(getInitParameter(PARAM_NAME_COMPRESS_PASSIVATED_VIEW_SCOPES));
+		}
+
+		return compressPassivatedViewScopes;
+	}
+
 	// Nested classes -------------------------------------------------------------------------------------------------
 
+	/**
+	 * Holds the bean storage of an active view scope, either as is or in its passivated serialized form. When the bean
+	 * storage cannot be serialized, it stays as is and passivation is not attempted again.
+	 */
+	private static final class ActiveViewScope implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private BeanStorage beanStorage;
+		private byte[] passivatedBeanStorage;
+		private boolean compressed;
+		private boolean passivatable = true;
+		private long lastAccessed;
+
+		ActiveViewScope(BeanStorage beanStorage) {
+			this.beanStorage = beanStorage;
+			lastAccessed = System.currentTimeMillis();
+		}
+
+		synchronized BeanStorage getBeanStorage() {
+			lastAccessed = System.currentTimeMillis();
+			return restore();
+		}
+
+		synchronized void passivateIfIdleSince(long threshold) {
+			if (beanStorage == null || !passivatable || lastAccessed >= threshold) {
+				return;
+			}
+
+			boolean compress = isCompressPassivatedViewScopes();
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+			try (ObjectOutputStream output = new ObjectOutputStream(compress ? new GZIPOutputStream(bytes) : bytes)) {
+				output.writeObject(beanStorage);
+			}
+			catch (IOException | RuntimeException e) {
+				passivatable = false;
+				logger.log(WARNING, WARNING_PASSIVATE_VIEW_SCOPE, e);
+				return;
+			}
+
+			passivatedBeanStorage = bytes.toByteArray();
+			compressed = compress;
+			beanStorage = null;
+		}
+
+		synchronized void destroyBeans() {
+			BeanStorage restoredBeanStorage;
+
+			try {
+				restoredBeanStorage = restore();
+			}
+			catch (UncheckedIOException | IllegalStateException e) {
+				logger.log(WARNING, WARNING_DESTROY_PASSIVATED_VIEW_SCOPE, e);
+				return;
+			}
+
+			restoredBeanStorage.destroyBeans();
+		}
+
+		private BeanStorage restore() {
+			if (beanStorage == null) {
+				try (ObjectInputStream input = new ContextClassLoaderObjectInputStream(compressed
+					? new GZIPInputStream(new ByteArrayInputStream(passivatedBeanStorage))
+					: new ByteArrayInputStream(passivatedBeanStorage)))
+				{
+					beanStorage = (BeanStorage) input.readObject();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(ERROR_RESTORE_VIEW_SCOPE, e);
+				}
+				catch (ClassNotFoundException e) {
+					throw new IllegalStateException(ERROR_RESTORE_VIEW_SCOPE, e);
+				}
+
+				passivatedBeanStorage = null;
+			}
+
+			return beanStorage;
+		}
+	}
+
+	/**
+	 * Resolves classes via the thread context class loader, so that webapp bean classes can be found when OmniFaces
+	 * itself is loaded by a parent class loader.
+	 */
+	private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+		ContextClassLoaderObjectInputStream(InputStream input) throws IOException {
+			super(input);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(descriptor.getName(), false, Thread.currentThread().getContextClassLoader());
+			}
+			catch (ClassNotFoundException e) {
+				return super.resolveClass(descriptor);
+			}
+		}
+	}
+
 	/**
 	 * Listener for {@link ConcurrentLinkedHashMap} which will be invoked when an entry is evicted. It will in turn
-	 * invoke {@link BeanStorage#destroyBeans()}.
+	 * invoke {@link BeanStorage#destroyBeans()} using {@link ViewScopeManager#getDestroyExecutor()}.
 	 */
-	private static final class BeanStorageEvictionListener implements EvictionListener<UUID, BeanStorage>, Serializable {
+	private static final class BeanStorageEvictionListener implements EvictionListener<UUID, ActiveViewScope>, Serializable {
 
 		private static final long serialVersionUID = 1L;
 
 		@Override
-		public void onEviction(UUID id, BeanStorage storage) {
-			storage.destroyBeans();
+		public void onEviction(UUID id, ActiveViewScope activeViewScope) {
+			getDestroyExecutor().execute(activeViewScope::destroyBeans);
 		}
 
 	}
@@ -73,12 +73,14 @@ public class ResourceInclude extends OutputFamily {
 
 		try {
 			request.getRequestDispatcher((String) getAttributes().get("path")).include(request, bufferedResponse);
+			bufferedResponse.writeBuffer(context.getResponseWriter());
 		}
 		catch (ServletException e) {
 			throw new FacesException(e);
 		}
-
-		context.getResponseWriter().write(bufferedResponse.getBufferAsString());
+		finally {
+			bufferedResponse.release();
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.config;
+
+import static java.util.Collections.emptySet;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Precompiled index of the security constraint URL patterns of {@link WebXml}, used by
+ * {@link WebXml#isAccessAllowed(String, String)}. The exact match, the path prefix match and the extension match are
+ * each resolved with hash lookups on regions of the URL, without allocating any substrings.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ */
+final class SecurityConstraintIndex {
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final Table exactMatches;
+	private final Table prefixMatches;
+	private final Table suffixMatches;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Compile the given mapping of security constraint URL patterns and the associated roles.
+	 * @param securityConstraints The mapping of security constraint URL patterns and the associated roles, in the order
+	 * as declared in <code>web.xml</code>.
+	 */
+	SecurityConstraintIndex(Map<String, Set<String>> securityConstraints) {
+		exactMatches = new Table(securityConstraints.size());
+		prefixMatches = new Table(securityConstraints.size());
+		suffixMatches = new Table(securityConstraints.size());
+		int order = 0;
+
+		for (Entry<String, Set<String>> entry : securityConstraints.entrySet()) {
+			String urlPattern = entry.getKey();
+			Set<String> roles = entry.getValue();
+
+			if (urlPattern.endsWith("/*")) {
+				String path = urlPattern.substring(0, urlPattern.length() - 2);
+				exactMatches.put(path, roles, order);
+				prefixMatches.put(path, roles, order);
+			}
+			else {
+				exactMatches.put(urlPattern, roles, order);
+			}
+
+			if (urlPattern.startsWith("*.")) {
+				suffixMatches.put(urlPattern.substring(1), roles, order);
+			}
+
+			order++;
+		}
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns whether access to the given URL is allowed for the given role. A trailing slash of the URL is ignored. The
+	 * roles of an exact match take precedence over those of the longest path prefix match, which in turn take precedence
+	 * over those of the first declared extension match. When no URL pattern matches,
+	 * or when it has no roles, then access is allowed. The role <code>*</code> allows access for any role.
+	 * @param url The context-relative URL, starting with '/'.
+	 * @param role The role, may be <code>null</code>.
+	 * @return <code>true</code> if access to the given URL is allowed for the given role, otherwise <code>false</code>.
+	 */
+	boolean isAccessAllowed(String url, String role) {
+		int length = url.length();
+
+		if (length > 1 && url.charAt(length - 1) == '/') {
+			length--; // Trim trailing slash.
+		}
+
+		Set<String> roles = findExactMatchRoles(url, length);
+
+		if (roles.isEmpty()) {
+			roles = findPrefixMatchRoles(url, length);
+		}
+
+		if (roles.isEmpty()) {
+			roles = findSuffixMatchRoles(url, length);
+		}
+
+		return isRoleMatch(roles, role);
+	}
+
+	/**
+	 * Returns the roles of the URL pattern exactly matching the first given amount of characters of the given URL.
+	 * @param url The URL.
+	 * @param length The amount of characters of the URL to match.
+	 * @return The roles of the URL pattern exactly matching the URL, or an empty set if there is none.
+	 */
+	private Set<String> findExactMatchRoles(String url, int length) {
+		Row row = exactMatches.get(url, 0, length, hash(url, 0, length));
+		return (row != null) ? row.roles : emptySet();
+	}
+
+	/**
+	 * Returns the roles of the longest path prefix URL pattern matching the first given amount of characters of the
+	 * given URL.
+	 * @param url The URL.
+	 * @param length The amount of characters of the URL to match.
+	 * @return The roles of the longest path prefix URL pattern matching the URL, or an empty set if there is none.
+	 */
+	private Set<String> findPrefixMatchRoles(String url, int length) {
+		if (prefixMatches.isEmpty()) {
+			return emptySet();
+		}
+
+		Row longest = null;
+		int hash = 0;
+
+		for (int i = 0; i <= length; i++) {
+			if (i == length || url.charAt(i) == '/') {
+				Row row = prefixMatches.get(url, 0, i, hash);
+
+				if (row != null) {
+					longest = row;
+				}
+			}
+
+			if (i < length) {
+				hash = 31 * hash + url.charAt(i);
+			}
+		}
+
+		return (longest != null) ? longest.roles : emptySet();
+	}
+
+	/**
+	 * Returns the roles of the first declared extension URL pattern matching the first given amount of characters of
+	 * the given URL.
+	 * @param url The URL.
+	 * @param length The amount of characters of the URL to match.
+	 * @return The roles of the first declared extension URL pattern matching the URL, or an empty set if there is none.
+	 */
+	private Set<String> findSuffixMatchRoles(String url, int length) {
+		if (suffixMatches.isEmpty()) {
+			return emptySet();
+		}
+
+		Row first = null;
+
+		for (int i = length - 1; i >= 0 && url.charAt(i) != '/'; i--) {
+			if (url.charAt(i) == '.') {
+				Row row = suffixMatches.get(url, i, length, hash(url, i, length));
+
+				if (row != null && (first == null || row.order < first.order)) {
+					first = row;
+				}
+			}
+		}
+
+		return (first != null) ? first.roles : emptySet();
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private static boolean isRoleMatch(Set<String> roles, String role) {
+		return roles.isEmpty() || roles.contains(role) || (role != null && roles.contains("*"));
+	}
+
+	/**
+	 * Returns the same hash as {@link String#hashCode()} of the given region of the given string.
+	 */
+	private static int hash(String string, int start, int end) {
+		int hash = 0;
+
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + string.charAt(i);
+		}
+
+		return hash;
+	}
+
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Row of {@link Table}.
+	 */
+	private static final class Row {
+
+		private final String key;
+		private final Set<String> roles;
+		private final int order;
+
+		private Row(String key, Set<String> roles, int order) {
+			this.key = key;
+			this.roles = roles;
+			this.order = order;
+		}
+	}
+
+	/**
+	 * Open addressing hash table which can be looked up by a region of a string.
+	 */
+	private static final class Table {
+
+		private final Row[] rows;
+		private final int mask;
+		private int size;
+
+		private Table(int expectedSize) {
+			int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 4 - 1) << 1;
+			rows = new Row[capacity];
+			mask = capacity - 1;
+		}
+
+		/**
+		 * Put the given key and roles, unless the key is already present; the first declared one wins.
+		 */
+		private void put(String key, Set<String> roles, int order) {
+			for (int i = spread(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+				if (rows[i] == null) {
+					rows[i] = new Row(key, roles, order);
+					size++;
+					return;
+				}
+				else if (rows[i].key.equals(key)) {
+					return;
+				}
+			}
+		}
+
+		private Row get(String string, int start, int end, int hash) {
+			int length = end - start;
+
+			for (int i = spread(hash) & mask; rows[i] != null; i = (i + 1) & mask) {
+				String key = rows[i].key;
+
+				if (key.length() == length && string.regionMatches(start, key, 0, length)) {
+					return rows[i];
+				}
+			}
+
+			return null;
+		}
+
+		private boolean isEmpty() {
+			return size == 0;
+		}
+
+		private static int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+}
@@ -32,7 +32,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.xml.xpath.XPath;
@@ -107,9 +107,11 @@ enum WebXmlSingleton implements WebXml {
 
 	private List<String> welcomeFiles;
 	private Map<Class<Throwable>, String> errorPageLocations;
+	private ClassValue<Optional<String>> errorPageLocationsByExceptionType;
 	private String formLoginPage;
 	private String formErrorPage;
 	private Map<String, Set<String>> securityConstraints;
+	private SecurityConstraintIndex securityConstraintIndex;
 	private int sessionTimeout;
 	private boolean distributable;
 
@@ -125,9 +127,11 @@ enum WebXmlSingleton implements WebXml {
 			XPath xpath = XPathFactory.newInstance().newXPath();
 			welcomeFiles = parseWelcomeFiles(allWebXmls, xpath);
 			errorPageLocations = parseErrorPageLocations(allWebXmls, xpath);
+			errorPageLocationsByExceptionType = new ErrorPageLocationClassValue(errorPageLocations);
 			formLoginPage = parseFormLoginPage(allWebXmls, xpath);
 			formErrorPage = parseFormErrorPage(allWebXmls, xpath);
 			securityConstraints = parseSecurityConstraints(allWebXmls, xpath);
+			securityConstraintIndex = new SecurityConstraintIndex(securityConstraints);
 			sessionTimeout = parseSessionTimeout(allWebXmls, xpath);
 
 			Element rootWebXml = loadRootWebXml(servletContext).getDocumentElement();
@@ -142,13 +146,7 @@ enum WebXmlSingleton implements WebXml {
 
 	@Override
 	public String findErrorPageLocation(Throwable exception) {
-		String location = null;
-
-		for (Class<?> cls = exception.getClass(); cls != null && location == null; cls = cls.getSuperclass()) {
-			location = errorPageLocations.get(cls);
-		}
-
-		return (location == null) ? errorPageLocations.get(null) : location;
+		return errorPageLocationsByExceptionType.get(exception.getClass()).orElse(null);
 	}
 
 	@Override
@@ -157,82 +155,7 @@ enum WebXmlSingleton implements WebXml {
 			throw new IllegalArgumentException(format(ERROR_URL_MUST_START_WITH_SLASH, url));
 		}
 
-		String uri = url;
-
-		if (url.length() > 1 && url.charAt(url.length() - 1) == '/') {
-			uri = url.substring(0, url.length() - 1); // Trim trailing slash.
-		}
-
-		Set<String> roles = findExactMatchRoles(uri);
-
-		if (roles.isEmpty()) {
-			roles = findPrefixMatchRoles(uri);
-		}
-
-		if (roles.isEmpty()) {
-			roles = findSuffixMatchRoles(uri);
-		}
-
-		return isRoleMatch(roles, role);
-	}
-
-	private Set<String> findExactMatchRoles(String url) {
-		for (Entry<String, Set<String>> entry : securityConstraints.entrySet()) {
-			if (isExactMatch(entry.getKey(), url)) {
-				return entry.getValue();
-			}
-		}
-
-		return emptySet();
-	}
-
-	private Set<String> findPrefixMatchRoles(String url) {
-		String urlMatch = "";
-
-		for (String path = url; !path.isEmpty(); path = path.substring(0, path.lastIndexOf('/'))) {
-			Set<String> roles = null;
-
-			for (Entry<String, Set<String>> entry : securityConstraints.entrySet()) {
-				if (urlMatch.length() < entry.getKey().length() && isPrefixMatch(entry.getKey(), path)) {
-					urlMatch = entry.getKey();
-					roles = entry.getValue();
-				}
-			}
-
-			if (roles != null) {
-				return roles;
-			}
-		}
-
-		return emptySet();
-	}
-
-	private Set<String> findSuffixMatchRoles(String url) {
-		if (url.contains(".")) {
-			for (Entry<String, Set<String>> entry : securityConstraints.entrySet()) {
-				if (isSuffixMatch(url, entry.getKey())) {
-					return entry.getValue();
-				}
-			}
-		}
-
-		return emptySet();
-	}
-
-	private static boolean isExactMatch(String urlPattern, String url) {
-		return url.equals(urlPattern.endsWith("/*") ? urlPattern.substring(0, urlPattern.length() - 2) : urlPattern);
-	}
-
-	private static boolean isPrefixMatch(String urlPattern, String url) {
-		return urlPattern.endsWith("/*") && (url + "/").startsWith(urlPattern.substring(0, urlPattern.length() - 1));
-	}
-
-	private static boolean isSuffixMatch(String urlPattern, String url) {
-		return urlPattern.startsWith("*.") && url.endsWith(urlPattern.substring(1));
-	}
-
-	private static boolean isRoleMatch(Set<String> roles, String role) {
-		return roles.isEmpty() || roles.contains(role) || (role != null && roles.contains("*"));
+		return securityConstraintIndex.isAccessAllowed(url, role);
 	}
 
 	// Getters --------------------------------------------------------------------------------------------------------
@@ -422,4 +345,29 @@ enum WebXmlSingleton implements WebXml {
 		return Boolean.parseBoolean(distributable);
 	}
 
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Resolves and caches the error page location per exception type by walking its superclass chain only once.
+	 */
+	private static final class ErrorPageLocationClassValue extends ClassValue<Optional<String>> {
+
+		private final Map<Class<Throwable>, String> errorPageLocations;
+
+		private ErrorPageLocationClassValue(Map<Class<Throwable>, String> errorPageLocations) {
+			this.errorPageLocations = errorPageLocations;
+		}
+
+		@Override
+		protected Optional<String> computeValue(Class<?> exceptionType) {
+			String location = null;
+
+			for (Class<?> cls = exceptionType; cls != null && location == null; cls = cls.getSuperclass()) {
+				location = errorPageLocations.get(cls);
+			}
+
+			return Optional.ofNullable((location == null) ? errorPageLocations.get(null) : location);
+		}
+	}
+
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import jakarta.faces.convert.Converter;
 import jakarta.faces.convert.FacesConverter;
 import jakarta.faces.model.SelectItem;
 
+import org.omnifaces.model.LazySelectItemsSource;
+
 /**
  * <p>
  * The <code>omnifaces.ListConverter</code> is intented for use in specialized selection components which doesn't
@@ -49,6 +51,15 @@ import jakarta.faces.model.SelectItem;
  * For detail, refer the javadoc of {@link SelectItemsConverter} and substitute "<code>SelectItemsConverter</code>" by
  * "<code>ListConverter</code>" and "<code>SelectItemsIndexConverter</code>" by "<code>ListIndexConverter</code>".
  *
+ * <h2>Lazy source</h2>
+ * <p>
+ * When the available items are too many to be materialized in a {@link List}, e.g. in an autocomplete input, then
+ * pass a {@link LazySelectItemsSource} via the <code>source</code> attribute instead. The submitted value will then be
+ * resolved via {@link LazySelectItemsSource#findByKey(String)} with the submitted value as key.
+ * <pre>
+ * &lt;o:converter converterId="omnifaces.ListConverter" source="#{bean.entitySource}" /&gt;
+ * </pre>
+ *
  * @since 1.5
  * @author Arjan Tijms
  */
@@ -56,9 +67,14 @@ import jakarta.faces.model.SelectItem;
 public class ListConverter implements Converter<Object> {
 
 	private List<?> list;
+	private LazySelectItemsSource<?> source;
 
 	@Override
 	public Object getAsObject(FacesContext context, UIComponent component, String value) {
+		if (source != null) {
+			return source.findByKey(value);
+		}
+
 		for (Object listValue : list) {
 			String convertedListValue = getAsString(context, component, listValue);
 			if (Objects.equals(value, convertedListValue)) {
@@ -86,4 +102,13 @@ public class ListConverter implements Converter<Object> {
 		this.list = list;
 	}
 
+	/**
+	 * Sets the lazy source of available items. This takes precedence over the list of available items.
+	 * @param source The lazy source of available items.
+	 * @since 4.4
+	 */
+	public void setSource(LazySelectItemsSource<?> source) {
+		this.source = source;
+	}
+
 }
\ No newline at end of file
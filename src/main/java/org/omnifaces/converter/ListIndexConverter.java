@@ -23,6 +23,8 @@ import jakarta.faces.convert.ConverterException;
 import jakarta.faces.convert.FacesConverter;
 import jakarta.faces.model.SelectItem;
 
+import org.omnifaces.model.LazySelectItemsSource;
+
 /**
  * <p>
  * The <code>omnifaces.ListIndexConverter</code> is a variant of the {@link ListConverter} which automatically converts
@@ -47,6 +49,16 @@ import jakarta.faces.model.SelectItem;
  * "<code>SelectItemsIndexConverter</code>" by "<code>ListIndexConverter</code>" and "<code>SelectItemsConverter</code>"
  * by "<code>ListConverter</code>".
  *
+ * <h2>Lazy source</h2>
+ * <p>
+ * When the available items are too many to be materialized in a {@link List}, then pass a
+ * {@link LazySelectItemsSource} via the <code>source</code> attribute instead. The submitted index will then be
+ * resolved via {@link LazySelectItemsSource#page(int, int)} and the index of an item via
+ * {@link LazySelectItemsSource#indexOf(Object)}.
+ * <pre>
+ * &lt;o:converter converterId="omnifaces.ListIndexConverter" source="#{bean.entitySource}" /&gt;
+ * </pre>
+ *
  * @author Arjan Tijms
  */
 @FacesConverter("omnifaces.ListIndexConverter")
@@ -62,6 +74,7 @@ public class ListIndexConverter implements Converter<Object> {
 			"Object {0} in component {1} does not appear to be present in the given list.";
 
 	private List<?> list;
+	private LazySelectItemsSource<?> source;
 
 	@Override
 	public Object getAsObject(FacesContext context, UIComponent component, String value) {
@@ -75,6 +88,18 @@ public class ListIndexConverter implements Converter<Object> {
 				createError(ERROR_LIST_INDEX, value, component.getClientId(context)), e);
 		}
 
+		if (source != null) {
+			List<?> page = (index < 0) ? null : source.page(index, 1);
+
+			if (page == null || page.isEmpty()) {
+				throw new ConverterException(
+					createError(ERROR_LIST_INDEX_BOUNDS, index, value, component.getClientId(context))
+				);
+			}
+
+			return page.get(0);
+		}
+
 		if (index < 0 || index >= list.size()) {
 			throw new ConverterException(
 				createError(ERROR_LIST_INDEX_BOUNDS, index, value, component.getClientId(context))
@@ -86,10 +111,10 @@ public class ListIndexConverter implements Converter<Object> {
 
 	@Override
 	public String getAsString(FacesContext context, UIComponent component, Object value) {
-		for (int i = 0; i < list.size(); i++) {
-			if (list.get(i).equals(value)) {
-				return Integer.toString(i);
-			}
+		int index = (source != null) ? source.indexOf(value) : indexOf(list, value);
+
+		if (index >= 0) {
+			return Integer.toString(index);
 		}
 
 		throw new ConverterException(
@@ -97,6 +122,16 @@ public class ListIndexConverter implements Converter<Object> {
 		);
 	}
 
+	private static int indexOf(List<?> list, Object value) {
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i).equals(value)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
 	/**
 	 * Sets the list of available items.
 	 * @param list The list of available items.
@@ -105,4 +140,13 @@ public class ListIndexConverter implements Converter<Object> {
 		this.list = list;
 	}
 
+	/**
+	 * Sets the lazy source of available items. This takes precedence over the list of available items.
+	 * @param source The lazy source of available items.
+	 * @since 4.4
+	 */
+	public void setSource(LazySelectItemsSource<?> source) {
+		this.source = source;
+	}
+
 }
\ No newline at end of file
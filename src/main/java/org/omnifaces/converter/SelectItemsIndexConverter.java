@@ -13,14 +13,17 @@
 package org.omnifaces.converter;
 
 import static java.lang.String.format;
+import static java.util.logging.Level.FINEST;
 import static org.omnifaces.util.Faces.getContextAttribute;
 import static org.omnifaces.util.Faces.setContextAttribute;
 import static org.omnifaces.util.Messages.createError;
 import static org.omnifaces.util.Utils.isEmpty;
 
-import java.util.AbstractMap.SimpleEntry;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
 
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
@@ -66,6 +69,16 @@ import org.omnifaces.util.selectitems.SelectItemsUtils;
  * bean).</li>
  * </ul>
  *
+ * <h2>Performance</h2>
+ * <p>
+ * Since 4.4, the index of a model value is looked up in a hash index of the select item values, so that rendering
+ * many options doesn't take a quadratic amount of {@link Object#equals(Object)} invocations. This relies on the
+ * {@link Object#hashCode()} of the select item values being consistent with their {@link Object#equals(Object)}, as
+ * required by the contract of {@link Object#hashCode()}. When it isn't, e.g. an entity whose <code>equals()</code> is
+ * based on its ID while its <code>hashCode()</code> isn't overridden, or when it throws an exception, e.g. an
+ * uninitialized lazy loading proxy, then this converter falls back to scanning the select item values with
+ * <code>equals()</code> as before, and stops using the hash index for the remainder of the current phase.
+ *
  * @author Patrick Dobler
  * @author Bauke Scholtz
  * @since 1.3
@@ -77,6 +90,8 @@ public class SelectItemsIndexConverter implements Converter<Object> {
 
 	// Constants ------------------------------------------------------------------------------------------------------
 
+	private static final Logger logger = Logger.getLogger(SelectItemsIndexConverter.class.getName());
+
 	private static final String ATTRIBUTE_SELECT_ITEMS = "SelectItemsIndexConverter.%s";
 
 	private static final String ERROR_SELECT_ITEMS_LIST_INDEX =
@@ -92,7 +107,7 @@ public class SelectItemsIndexConverter implements Converter<Object> {
 			return null; // Work around for MyFaces 2.0.x bug.
 		}
 
-		List<Object> selectItemValues = SelectItemsUtils.collectAllValuesFromSelectItems(context, component);
+		List<Object> selectItemValues = getSelectItemValues(context, component).values;
 
 		try {
 			return selectItemValues.get(Integer.parseInt(submittedValue));
@@ -109,26 +124,111 @@ public class SelectItemsIndexConverter implements Converter<Object> {
 
 	@Override
 	public String getAsString(FacesContext context, UIComponent component, Object modelValue) {
+		int index = getSelectItemValues(context, component).indexOf(modelValue);
+		return (index < 0) ? "" : Integer.toString(index);
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the select item values of the given component, cached for the current phase as it's a rather expensive
+	 * job to collect them.
+	 */
+	private static SelectItemValues getSelectItemValues(FacesContext context, UIComponent component) {
 		String key = format(ATTRIBUTE_SELECT_ITEMS, component.getClientId(context));
-		Entry<PhaseId, List<Object>> selectItemValuesByPhaseId = getContextAttribute(key);
+		SelectItemValues selectItemValues = getContextAttribute(key);
 
-		if (selectItemValuesByPhaseId == null || selectItemValuesByPhaseId.getKey() != context.getCurrentPhaseId()) {
-			List<Object> selectItemValues = SelectItemsUtils.collectAllValuesFromSelectItems(context, component);
-			selectItemValuesByPhaseId = new SimpleEntry<>(context.getCurrentPhaseId(), selectItemValues);
-			setContextAttribute(key, selectItemValuesByPhaseId); // Cache it as it's a rather expensive job.
+		if (selectItemValues == null || selectItemValues.phaseId != context.getCurrentPhaseId()) {
+			selectItemValues = new SelectItemValues(context.getCurrentPhaseId(), SelectItemsUtils.collectAllValuesFromSelectItems(context, component));
+			setContextAttribute(key, selectItemValues);
 		}
 
-		List<Object> selectItemValues = selectItemValuesByPhaseId.getValue();
+		return selectItemValues;
+	}
+
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * The select item values collected during a specific phase, along with a lazily built index of their positions.
+	 * The index is abandoned once it turns out that a value's <code>hashCode()</code> is not consistent with its
+	 * <code>equals()</code> or throws an exception.
+	 */
+	private static final class SelectItemValues {
 
-		for (int i = 0; i < selectItemValues.size(); i++) {
-			Object selectItemValue = selectItemValues.get(i);
+		private final PhaseId phaseId;
+		private final List<Object> values;
+		private Map<Object, Integer> indexes;
+		private boolean indexUnusable;
+		private Integer emptyIndex;
+
+		private SelectItemValues(PhaseId phaseId, List<Object> values) {
+			this.phaseId = phaseId;
+			this.values = values;
+		}
 
-			if (isEmpty(modelValue) ? isEmpty(selectItemValue) : modelValue.equals(selectItemValue)) {
-				return Integer.toString(i);
+		/**
+		 * Returns the position of the first select item value which equals the given model value, or the first empty
+		 * select item value if the given model value is empty, or -1 if there is none.
+		 */
+		private int indexOf(Object modelValue) {
+			if (isEmpty(modelValue)) {
+				if (emptyIndex == null) {
+					emptyIndex = indexOf(value -> isEmpty(value));
+				}
+
+				return emptyIndex;
 			}
+
+			if (!indexUnusable) {
+				try {
+					Integer index = getIndexes().get(modelValue);
+
+					if (index != null) {
+						return index;
+					}
+				}
+				catch (Exception e) {
+					logger.log(FINEST, "Ignoring thrown exception; hashCode() is not usable, will fall back to equals() scan.", e);
+					indexUnusable = true;
+				}
+			}
+
+			int index = indexOf(modelValue::equals);
+
+			if (index >= 0) {
+				indexUnusable = true; // The hash index missed a value which equals() did find, so don't waste time on it anymore.
+			}
+
+			return index;
 		}
 
-		return "";
+		private Map<Object, Integer> getIndexes() {
+			if (indexes == null) {
+				Map<Object, Integer> newIndexes = new HashMap<>(values.size() * 4 / 3 + 1);
+
+				for (int i = 0; i < values.size(); i++) {
+					Object value = values.get(i);
+
+					if (value != null) {
+						newIndexes.putIfAbsent(value, i);
+					}
+				}
+
+				indexes = newIndexes;
+			}
+
+			return indexes;
+		}
+
+		private int indexOf(Predicate<Object> matcher) {
+			for (int i = 0; i < values.size(); i++) {
+				if (matcher.test(values.get(i))) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
 	}
 
 }
\ No newline at end of file
@@ -20,12 +20,15 @@ import static org.omnifaces.util.Utils.isEmpty;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Array;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import jakarta.faces.component.UIComponent;
@@ -44,6 +47,11 @@ import org.omnifaces.util.Utils;
  * <code>of:setToList()</code>, <code>of:mapToList()</code>, <code>of:joinArray()</code>, <code>of:joinCollection()</code>,
  * <code>of:joinMap()</code>, <code>of:splitArray()</code>, <code>of:splitList()</code>, and <code>of:toJson()</code>.
  * <p>
+ * The <code>of:xxxView()</code> variants <code>of:mapToListView()</code>, <code>of:splitArrayView()</code> and
+ * <code>of:splitListView()</code> do not copy the elements into a new array or list, but return a read only view over
+ * the given map, array or list instead. This may be helpful to save memory when iterating over large data in for
+ * example <code>&lt;ui:repeat&gt;</code>.
+ * <p>
  * The <code>of:joinXxx()</code> functions basically joins the elements of the array, collection or map to a string using the given separator.
  * This may be helpful if you want to display the contents of a collection as a commaseparated string without the need for an <code>&lt;ui:repeat&gt;</code>.
  * <p>
@@ -104,6 +112,31 @@ public final class Converters {
 		return new ArrayList<>(map.entrySet());
 	}
 
+	/**
+	 * Returns a read only <code>List&lt;Map.Entry&lt;K, V&gt;&gt;</code> view of the given <code>Map&lt;K, V&gt;</code>.
+	 * Unlike {@link #mapToList(Map)}, the entries are not copied into a new list, but are obtained from an iterator
+	 * over the map entries. Accessing the entries by ascending index, as <code>&lt;ui:repeat&gt;</code> and
+	 * <code>&lt;h:dataTable&gt;</code> do, is therefore as fast as iterating over the map, but accessing an entry by a
+	 * lower index than the previously accessed one requires iterating from the start again.
+	 * <p>
+	 * As the view holds on to that iterator between accesses, it must not be used anymore once the map has been
+	 * structurally modified, else a {@link java.util.ConcurrentModificationException} will be thrown. This is for
+	 * example the case when the map is modified during a postback while the view is still being referenced by an
+	 * iterating component. Use {@link #mapToList(Map)} instead when the map may change while the list is in use.
+	 * @param <K> The generic map key type.
+	 * @param <V> The generic map value type.
+	 * @param map The map to return a list view of its entries for.
+	 * @return The list view of the entries of the given map.
+	 * @since 4.4
+	 */
+	public static <K, V> List<Map.Entry<K, V>> mapToListView(Map<K, V> map) {
+		if (map == null) {
+			return null;
+		}
+
+		return new MapEntriesView<>(map);
+	}
+
 	/**
 	 * Converts a <code>Iterable&lt;E&gt;</code> to a <code>List&lt;E&gt;</code>.
 	 * <p>
@@ -304,6 +337,55 @@ public final class Converters {
 		return lists;
 	}
 
+	/**
+	 * Returns a read only view of the given array as a list of sublists of the given fragment size. Unlike
+	 * {@link #splitArray(Object, int)}, the elements are not copied into new subarrays, but are obtained from the given
+	 * array on access.
+	 * @param array The array to be split.
+	 * @param fragmentSize The size of each sublist.
+	 * @return A list view consisting of sublist views of the given array.
+	 * @throws IllegalArgumentException When the given array is not an array at all, or when the fragment size is less
+	 * than 1.
+	 * @since 4.4
+	 */
+	public static List<List<Object>> splitArrayView(Object array, int fragmentSize) {
+		if (isEmpty(array)) {
+			return Collections.emptyList();
+		}
+
+		if (!array.getClass().isArray()) {
+			throw new IllegalArgumentException(format(ERROR_NOT_AN_ARRAY, array.getClass()));
+		}
+
+		if (fragmentSize < 1) {
+			throw new IllegalArgumentException(format(ERROR_INVALID_FRAGMENT_SIZE, fragmentSize));
+		}
+
+		return new FragmentsView<>(new ArrayView(array), fragmentSize);
+	}
+
+	/**
+	 * Returns a read only view of the given list as a list of sublists of the given fragment size. Unlike
+	 * {@link #splitList(List, int)}, no new list holding the sublists is created, the sublists are created on access.
+	 * @param <E> The generic list element type.
+	 * @param list The list to be split.
+	 * @param fragmentSize The size of each sublist.
+	 * @return A list view consisting of sublist views of the given list.
+	 * @throws IllegalArgumentException When the fragment size is less than 1.
+	 * @since 4.4
+	 */
+	public static <E> List<List<E>> splitListView(List<E> list, int fragmentSize) {
+		if (isEmpty(list)) {
+			return Collections.emptyList();
+		}
+
+		if (fragmentSize < 1) {
+			throw new IllegalArgumentException(format(ERROR_INVALID_FRAGMENT_SIZE, fragmentSize));
+		}
+
+		return new FragmentsView<>(Collections.unmodifiableList(list), fragmentSize);
+	}
+
 	/**
 	 * Encode given object as JSON.
 	 * Currently, this delegates directly to {@link Json#encode(Object)}.
@@ -347,4 +429,98 @@ public final class Converters {
 		return createConverter(context, converterId).getAsString(context, getCurrentComponent(context), object);
 	}
 
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Read only list view of map entries which keeps track of the iterator position, so that accessing the entries by
+	 * ascending index doesn't require iterating from the start on every access. The iterator is fail-fast on structural
+	 * modifications of the map, see {@link Converters#mapToListView(Map)}.
+	 */
+	private static final class MapEntriesView<K, V> extends AbstractList<Entry<K, V>> {
+
+		private final Map<K, V> map;
+		private Iterator<Entry<K, V>> iterator;
+		private Entry<K, V> current;
+		private int position;
+
+		private MapEntriesView(Map<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public Entry<K, V> get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			}
+
+			if (iterator == null || index < position - 1) {
+				iterator = map.entrySet().iterator();
+				position = 0;
+			}
+
+			while (position <= index) {
+				current = iterator.next();
+				position++;
+			}
+
+			return current;
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+	}
+
+	/**
+	 * Read only list view of an array of any component type.
+	 */
+	private static final class ArrayView extends AbstractList<Object> implements RandomAccess {
+
+		private final Object array;
+
+		private ArrayView(Object array) {
+			this.array = array;
+		}
+
+		@Override
+		public Object get(int index) {
+			return Array.get(array, index);
+		}
+
+		@Override
+		public int size() {
+			return Array.getLength(array);
+		}
+	}
+
+	/**
+	 * Read only list view of sublists of the given fragment size of a list.
+	 */
+	private static final class FragmentsView<E> extends AbstractList<List<E>> implements RandomAccess {
+
+		private final List<E> list;
+		private final int fragmentSize;
+
+		private FragmentsView(List<E> list, int fragmentSize) {
+			this.list = list;
+			this.fragmentSize = fragmentSize;
+		}
+
+		@Override
+		public List<E> get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			}
+
+			int fromIndex = index * fragmentSize;
+			return list.subList(fromIndex, Math.min(fromIndex + fragmentSize, list.size()));
+		}
+
+		@Override
+		public int size() {
+			return (list.size() + fragmentSize - 1) / fragmentSize;
+		}
+	}
+
 }
\ No newline at end of file
@@ -43,6 +43,7 @@ import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.omnifaces.util.Faces;
+import org.omnifaces.util.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 
 /**
  * <p>
@@ -64,6 +65,10 @@ public final class Dates {
 	private static final Map<Locale, Map<String, Integer>> SHORT_MONTHS_CACHE = new ConcurrentHashMap<>(3);
 	private static final Map<Locale, Map<String, Integer>> DAYS_OF_WEEK_CACHE = new ConcurrentHashMap<>(3);
 	private static final Map<Locale, Map<String, Integer>> SHORT_DAYS_OF_WEEK_CACHE = new ConcurrentHashMap<>(3);
+	private static final int MAX_FORMATTERS = 100;
+	private static final Map<String, DateTimeFormatter> FORMATTERS_CACHE = new ConcurrentLinkedHashMap.Builder<String, DateTimeFormatter>()
+		.maximumWeightedCapacity(MAX_FORMATTERS)
+		.build();
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -110,7 +115,15 @@ public final class Dates {
 			return null;
 		}
 
-		return DateTimeFormatter.ofPattern(pattern, getLocale()).withZone(toZoneId(timezone)).format(toZonedDateTime(date));
+		return getFormatter(pattern, getLocale()).withZone(toZoneId(timezone)).format(toZonedDateTime(date));
+	}
+
+	/**
+	 * Returns the formatter for the given pattern and locale. As {@link DateTimeFormatter} is immutable, it's cached
+	 * for reuse. The cache is bounded as the pattern could possibly be user controlled.
+	 */
+	private static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+		return FORMATTERS_CACHE.computeIfAbsent(locale + ":" + pattern, k -> DateTimeFormatter.ofPattern(pattern, locale));
 	}
 
 	// Manipulating ---------------------------------------------------------------------------------------------------
@@ -13,6 +13,7 @@
 package org.omnifaces.el.functions;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static org.omnifaces.util.Faces.getLocale;
 import static org.omnifaces.util.Utils.parseLocale;
 
@@ -21,7 +22,10 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.omnifaces.util.Faces;
 
@@ -41,6 +45,11 @@ public final class Numbers {
 	private static final int BYTES_1K = 1024;
 	private static final int NUMBER_1K = 1000;
 	private static final int PRECISION = 3;
+	private static final int MAX_FORMATTERS = 100;
+
+	// NOTE: the values may only reference JDK classes, otherwise the OmniFaces class loader would leak on redeploy via
+	// the container managed threads.
+	private static final ThreadLocal<Map<String, NumberFormat>> FORMATTERS = ThreadLocal.withInitial(HashMap::new);
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -82,11 +91,14 @@ public final class Numbers {
 			return null;
 		}
 
-		DecimalFormat formatter = (DecimalFormat) NumberFormat.getCurrencyInstance(getLocale());
-		DecimalFormatSymbols symbols = formatter.getDecimalFormatSymbols();
-		symbols.setCurrencySymbol(currencySymbol);
-		formatter.setDecimalFormatSymbols(symbols);
-		return formatter.format(number);
+		Locale locale = getLocale();
+		return getFormatter("currency", locale, requireNonNull(currencySymbol), () -> {
+			DecimalFormat formatter = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+			DecimalFormatSymbols symbols = formatter.getDecimalFormatSymbols();
+			symbols.setCurrencySymbol(currencySymbol);
+			formatter.setDecimalFormatSymbols(symbols);
+			return formatter;
+		}).format(number);
 	}
 
 	/**
@@ -104,9 +116,12 @@ public final class Numbers {
 			return null;
 		}
 
-		DecimalFormat formatter = (DecimalFormat) NumberFormat.getNumberInstance(getLocale());
-		formatter.applyPattern(pattern);
-		return formatter.format(number);
+		Locale locale = getLocale();
+		return getFormatter("number", locale, requireNonNull(pattern), () -> {
+			DecimalFormat formatter = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+			formatter.applyPattern(pattern);
+			return formatter;
+		}).format(number);
 	}
 
 	/**
@@ -137,7 +152,8 @@ public final class Numbers {
 			return null;
 		}
 
-		return NumberFormat.getNumberInstance(parseLocale(locale)).format(number);
+		Locale parsedLocale = parseLocale(locale);
+		return getFormatter("number", parsedLocale, null, () -> NumberFormat.getNumberInstance(parsedLocale)).format(number);
 	}
 
 	/**
@@ -154,7 +170,8 @@ public final class Numbers {
 			return null;
 		}
 
-		return NumberFormat.getPercentInstance(getLocale()).format(number);
+		Locale locale = getLocale();
+		return getFormatter("percent", locale, null, () -> NumberFormat.getPercentInstance(locale)).format(number);
 	}
 
 	/**
@@ -255,9 +272,12 @@ public final class Numbers {
 		BigDecimal reparsed;
 
 		try {
-			DecimalFormat formatter = (DecimalFormat) NumberFormat.getNumberInstance(getLocale());
-			formatter.setParseBigDecimal(true);
-			reparsed = (BigDecimal) formatter.parse(formatted);
+			Locale locale = getLocale();
+			reparsed = (BigDecimal) getFormatter("parse", locale, null, () -> {
+				DecimalFormat formatter = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+				formatter.setParseBigDecimal(true);
+				return formatter;
+			}).parse(formatted);
 		}
 		catch (ParseException e) {
 			throw new IllegalStateException(e);
@@ -291,4 +311,27 @@ public final class Numbers {
 		return unitPrefix + binaryPrefix;
 	}
 
+	/**
+	 * Returns the formatter of the given type, locale and pattern, which is created by the given supplier and cached
+	 * on first access. As {@link NumberFormat} is not thread safe, the cache is confined to the current thread, so the
+	 * returned formatter may not be shared with other threads. The cache is bounded as the pattern could possibly be
+	 * user controlled.
+	 */
+	private static NumberFormat getFormatter(String type, Locale locale, String pattern, Supplier<NumberFormat> supplier) {
+		Map<String, NumberFormat> formatters = FORMATTERS.get();
+		String key = type + ":" + locale + (pattern == null ? "" : (":" + pattern));
+		NumberFormat formatter = formatters.get(key);
+
+		if (formatter == null) {
+			if (formatters.size() >= MAX_FORMATTERS) {
+				formatters.clear();
+			}
+
+			formatter = supplier.get();
+			formatters.put(key, formatter);
+		}
+
+		return formatter;
+	}
+
 }
\ No newline at end of file
@@ -20,10 +20,14 @@ import java.text.MessageFormat;
 import java.text.Normalizer;
 import java.text.Normalizer.Form;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.omnifaces.util.Faces;
 import org.omnifaces.util.Utils;
+import org.omnifaces.util.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 
 /**
  * <p>
@@ -43,6 +47,15 @@ public final class Strings {
 	private static final Pattern PATTERN_NON_ALPHANUMERIC_CHARS = Pattern.compile("[^\\p{Alnum}]+");
 	private static final Pattern PATTERN_XML_TAGS = Pattern.compile("\\<[^\\>]*+\\>");
 	private static final Pattern PATTERN_MULTIPLE_SPACES = Pattern.compile("\\s\\s+");
+	private static final int MAX_PATTERNS = 100;
+	private static final int MAX_MESSAGE_FORMATS = 100;
+	private static final Map<String, Pattern> PATTERNS_CACHE = new ConcurrentLinkedHashMap.Builder<String, Pattern>()
+		.maximumWeightedCapacity(MAX_PATTERNS)
+		.build();
+
+	// NOTE: the values may only reference JDK classes, otherwise the OmniFaces class loader would leak on redeploy via
+	// the container managed threads.
+	private static final ThreadLocal<Map<String, MessageFormat>> MESSAGE_FORMATS = ThreadLocal.withInitial(HashMap::new);
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -139,7 +152,7 @@ public final class Strings {
 			return null;
 		}
 
-		return value.replaceAll(pattern, replacement);
+		return getPattern(pattern).matcher(value).replaceAll(replacement);
 	}
 
 	/**
@@ -151,7 +164,7 @@ public final class Strings {
 	 * @since 1.5
 	 */
 	public static boolean matches(String value, String pattern) {
-		return value != null && value.matches(pattern);
+		return value != null && getPattern(pattern).matcher(value).matches();
 	}
 
 	/**
@@ -320,8 +333,39 @@ public final class Strings {
 	 */
 	private static String format(String pattern, Object... params) {
 		StringBuffer result = new StringBuffer();
-		new MessageFormat(pattern, getLocale()).format(params, result, null);
+		getMessageFormat(pattern, getLocale()).format(params, result, null);
 		return result.toString();
 	}
 
+	/**
+	 * Returns the compiled regular expression pattern. As {@link Pattern} is immutable, it's cached for reuse. The
+	 * cache is bounded as the pattern could possibly be user controlled.
+	 */
+	private static Pattern getPattern(String pattern) {
+		return PATTERNS_CACHE.computeIfAbsent(pattern, Pattern::compile);
+	}
+
+	/**
+	 * Returns the parsed message format of the given pattern and locale, which is cached on first access. As
+	 * {@link MessageFormat} is not thread safe, the cache is confined to the current thread, so the returned message
+	 * format may not be shared with other threads. The cache is bounded as the pattern could possibly be user
+	 * controlled.
+	 */
+	private static MessageFormat getMessageFormat(String pattern, Locale locale) {
+		Map<String, MessageFormat> messageFormats = MESSAGE_FORMATS.get();
+		String key = locale + ":" + pattern;
+		MessageFormat messageFormat = messageFormats.get(key);
+
+		if (messageFormat == null) {
+			if (messageFormats.size() >= MAX_MESSAGE_FORMATS) {
+				messageFormats.clear();
+			}
+
+			messageFormat = new MessageFormat(pattern, locale);
+			messageFormats.put(key, messageFormat);
+		}
+
+		return messageFormat;
+	}
+
 }
\ No newline at end of file
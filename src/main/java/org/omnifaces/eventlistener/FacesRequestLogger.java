@@ -32,13 +32,13 @@ import static org.omnifaces.util.FacesLocal.getRequestAttribute;
 import static org.omnifaces.util.FacesLocal.getRequestParameter;
 import static org.omnifaces.util.FacesLocal.getRequestParameterValuesMap;
 import static org.omnifaces.util.FacesLocal.getRequestURIWithQueryString;
+import static org.omnifaces.util.FacesLocal.getServletContext;
 import static org.omnifaces.util.FacesLocal.getSessionId;
+import static org.omnifaces.util.FacesLocal.getViewId;
 import static org.omnifaces.util.Utils.coalesce;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +92,16 @@ import org.omnifaces.util.Faces;
  *     <li><code>4</code>: duration of {@link PhaseId#UPDATE_MODEL_VALUES}.</li>
  *     <li><code>5</code>: duration of {@link PhaseId#INVOKE_APPLICATION}.</li>
  *     <li><code>6</code>: duration of {@link PhaseId#RENDER_RESPONSE}.</li></ul></li></ul>
+ * <p>
+ * The log details are only collected when the logger is enabled for {@link Level#INFO}.
+ *
+ * <h2>Timings</h2>
+ * <p>
+ * When the context parameter {@value #PARAM_NAME_RECORD_TIMINGS} is set to <code>true</code>, then the phase durations
+ * of every Faces request are additionally recorded in application wide histograms per view ID, regardless of whether
+ * the logger is enabled. This is cheap enough to leave on in production, also with the logger disabled. The histograms
+ * are available via {@link FacesRequestTimings#getInstance(jakarta.servlet.ServletContext)} and can be exported via a
+ * {@link FacesRequestTimingsExporter}.
  *
  * <h2>Installation</h2>
  * <p>
@@ -104,15 +114,24 @@ import org.omnifaces.util.Faces;
  *
  * @author Bauke Scholtz
  * @since 3.0
+ * @see FacesRequestTimings
  */
 public class FacesRequestLogger extends DefaultPhaseListener {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The context parameter name to enable recording the phase durations in {@link FacesRequestTimings}.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_RECORD_TIMINGS = "org.omnifaces.FACES_REQUEST_LOGGER_RECORD_TIMINGS";
+
 	private static final Logger logger = Logger.getLogger(FacesRequestLogger.class.getName());
 
 	private static final Pattern PASSWORD_REQUEST_PARAMETER_PATTERN = Pattern.compile(".*(password|token)$", CASE_INSENSITIVE);
 
+	private transient Boolean recordTimings;
+
 	/**
 	 * Listen on any phase.
 	 */
@@ -121,24 +140,43 @@ public class FacesRequestLogger extends DefaultPhaseListener {
 	}
 
 	/**
-	 * Before any phase, start the timer.
+	 * Before any phase, start the timer, if necessary.
 	 */
 	@Override
 	public void beforePhase(PhaseEvent event) {
 		FacesContext context = event.getFacesContext();
-		getPhaseTimer(context).start(event.getPhaseId());
+
+		if (logger.isLoggable(INFO) || isRecordTimings(context)) {
+			getPhaseTimer(context).start(event.getPhaseId());
+		}
 	}
 
 	/**
-	 * After any phase, stop the timer, and if the current phase is RENDER_RESPONSE, or the response is complete, then log the Faces request
-	 * detail.
+	 * After any phase, stop the timer, and if the current phase is RENDER_RESPONSE, or the response is complete, then record the timings
+	 * and log the Faces request detail, if necessary.
 	 */
 	@Override
 	public void afterPhase(PhaseEvent event) {
 		FacesContext context = event.getFacesContext();
-		getPhaseTimer(context).stop(event.getPhaseId());
+		boolean loggable = logger.isLoggable(INFO);
+		boolean recordTimings = isRecordTimings(context);
+
+		if (!loggable && !recordTimings) {
+			return;
+		}
+
+		PhaseTimer phaseTimer = getPhaseTimer(context);
+		phaseTimer.stop(event.getPhaseId());
+
+		if (!(event.getPhaseId() == RENDER_RESPONSE || context.getResponseComplete())) {
+			return;
+		}
+
+		if (recordTimings) {
+			phaseTimer.recordTo(FacesRequestTimings.getInstance(getServletContext(context)), getViewId(context));
+		}
 
-		if (!(event.getPhaseId() == RENDER_RESPONSE || context.getResponseComplete()) || !logger.isLoggable(INFO)) {
+		if (!loggable) {
 			return;
 		}
 
@@ -257,39 +295,82 @@ public class FacesRequestLogger extends DefaultPhaseListener {
 		return clientId -> facesMessages.put(coalesce(clientId, ""), context.getMessageList(clientId).stream().map(FacesMessage::getSummary).collect(toList()));
 	}
 
+	private boolean isRecordTimings(FacesContext context) {
+		if (recordTimings == null) {
+			recordTimings = Boolean.valueOf(getServletContext(context).getInitParameter(PARAM_NAME_RECORD_TIMINGS));
+		}
+
+		return recordTimings;
+	}
+
 	private static PhaseTimer getPhaseTimer(FacesContext context) {
 		return getRequestAttribute(context, PhaseTimer.class.getName(), PhaseTimer::new);
 	}
 
 	private static class PhaseTimer {
 
-		private Map<Integer, Long> startTimes = new HashMap<>();
-		private Map<Integer, Long> endTimes = new HashMap<>();
+		private static final int PHASES = PhaseId.VALUES.size();
+
+		private final long[] startTimes = new long[PHASES];
+		private final long[] endTimes = new long[PHASES];
+		private int started; // Bit mask of phase ordinals.
+		private int stopped; // Bit mask of phase ordinals.
 
 		public void start(PhaseId phaseId) {
-			startTimes.putIfAbsent(phaseId.getOrdinal(), nanoTime());
+			int ordinal = phaseId.getOrdinal();
+
+			if ((started & (1 << ordinal)) == 0) {
+				startTimes[ordinal] = nanoTime();
+				started |= 1 << ordinal;
+			}
 		}
 
 		public void stop(PhaseId phaseId) {
-			endTimes.put(phaseId.getOrdinal(), nanoTime());
+			int ordinal = phaseId.getOrdinal();
+			endTimes[ordinal] = nanoTime();
+			stopped |= 1 << ordinal;
+		}
+
+		public long getDurationNanos(PhaseId phase) {
+			int startOrdinal = (phase == ANY_PHASE) ? RESTORE_VIEW.getOrdinal() : phase.getOrdinal();
+			int endOrdinal = (phase == ANY_PHASE) ? (31 - Integer.numberOfLeadingZeros(stopped)) : phase.getOrdinal();
+
+			if (endOrdinal < 0 || (started & (1 << startOrdinal)) == 0 || (stopped & (1 << endOrdinal)) == 0) {
+				return -1;
+			}
+
+			return endTimes[endOrdinal] - startTimes[startOrdinal];
 		}
 
 		public String getDuration(PhaseId phase) {
-			Long startTime = startTimes.get(phase == ANY_PHASE ? RESTORE_VIEW.getOrdinal() : phase.getOrdinal());
-			Long endTime = endTimes.get(phase == ANY_PHASE ? Collections.max(endTimes.keySet()) : phase.getOrdinal());
-			return (startTime != null && endTime != null ?  ((endTime - startTime) / 1_000_000) : -1) + "ms";
+			long duration = getDurationNanos(phase);
+			return (duration >= 0 ? (duration / 1_000_000) : -1) + "ms";
+		}
+
+		public void recordTo(FacesRequestTimings timings, String viewId) {
+			for (PhaseId phase : PhaseId.VALUES) {
+				long duration = getDurationNanos(phase);
+
+				if (duration >= 0) {
+					timings.record(viewId, phase, duration);
+				}
+			}
 		}
 
 		@Override
 		public String toString() {
-			Map<Integer, String> duration = new TreeMap<>();
+			StringBuilder duration = new StringBuilder("{");
 
 			for (PhaseId phase : PhaseId.VALUES) {
-				duration.put(phase.getOrdinal(), getDuration(phase));
+				if (phase.getOrdinal() > 0) {
+					duration.append(", ");
+				}
+
+				duration.append(phase.getOrdinal()).append('=').append(getDuration(phase));
 			}
 
-			return duration.toString();
+			return duration.append('}').toString();
 		}
 	}
 
-}
\ No newline at end of file
+}
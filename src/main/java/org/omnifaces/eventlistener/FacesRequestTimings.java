@@ -0,0 +1,216 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.eventlistener;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.logging.Level.WARNING;
+import static org.omnifaces.util.Servlets.getApplicationAttribute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import jakarta.faces.event.PhaseId;
+import jakarta.servlet.ServletContext;
+
+import org.omnifaces.ApplicationListener;
+
+/**
+ * <p>
+ * Application wide {@link TimingHistogram}s of the Faces request phase durations per view ID, as recorded by
+ * {@link FacesRequestLogger} when {@link FacesRequestLogger#PARAM_NAME_RECORD_TIMINGS} is enabled. The durations of
+ * {@link PhaseId#ANY_PHASE} represent the total durations.
+ * <p>
+ * In order to keep the memory footprint bounded, at most {@value #MAX_VIEW_IDS} view IDs are tracked. Any further view
+ * IDs, as well as requests without a view, are recorded under {@value #OTHER_VIEW_ID}.
+ * <p>
+ * The timings can be exported via {@link FacesRequestTimingsExporter} implementations. A plain text representation is
+ * available via {@link #writeTo(Appendable)}.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesRequestLogger
+ * @see FacesRequestTimingsExporter
+ */
+public final class FacesRequestTimings {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	/** The maximum amount of tracked view IDs. */
+	public static final int MAX_VIEW_IDS = 1000;
+
+	/** The view ID under which requests without a view or with an untracked view ID are recorded. */
+	public static final String OTHER_VIEW_ID = "*";
+
+	private static final Logger logger = Logger.getLogger(FacesRequestTimings.class.getName());
+
+	private static final String WARNING_EXPORTER_FAIL = "FacesRequestTimings: exporter %s failed to %s: %s";
+
+	private static final int PHASES = PhaseId.VALUES.size();
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final ConcurrentMap<String, TimingHistogram[]> histograms = new ConcurrentHashMap<>();
+	private final List<FacesRequestTimingsExporter> exporters;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	private FacesRequestTimings(ServletContext servletContext) {
+		List<FacesRequestTimingsExporter> startedExporters = new ArrayList<>();
+
+		for (FacesRequestTimingsExporter exporter : ServiceLoader.load(FacesRequestTimingsExporter.class)) {
+			try {
+				exporter.start(servletContext, this);
+				startedExporters.add(exporter);
+			}
+			catch (Exception e) {
+				logger.log(WARNING, format(WARNING_EXPORTER_FAIL, exporter.getClass().getName(), "start", e));
+			}
+		}
+
+		exporters = unmodifiableList(startedExporters);
+	}
+
+	// Static ---------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the timings of the given web application. They are created and exported on first access.
+	 * @param servletContext The involved servlet context.
+	 * @return The timings of the given web application.
+	 */
+	public static FacesRequestTimings getInstance(ServletContext servletContext) {
+		FacesRequestTimings timings = getApplicationAttribute(servletContext, FacesRequestTimings.class.getName());
+
+		if (timings == null) {
+			synchronized (FacesRequestTimings.class) {
+				timings = getApplicationAttribute(servletContext, FacesRequestTimings.class.getName());
+
+				if (timings == null) {
+					timings = new FacesRequestTimings(servletContext);
+					servletContext.setAttribute(FacesRequestTimings.class.getName(), timings);
+				}
+			}
+		}
+
+		return timings;
+	}
+
+	/**
+	 * Stops exporting the timings of the given web application, if any.
+	 * This is invoked by {@link ApplicationListener}.
+	 * @param servletContext The involved servlet context.
+	 */
+	public static void destroy(ServletContext servletContext) {
+		FacesRequestTimings timings = getApplicationAttribute(servletContext, FacesRequestTimings.class.getName());
+
+		if (timings != null) {
+			servletContext.removeAttribute(FacesRequestTimings.class.getName());
+
+			for (FacesRequestTimingsExporter exporter : timings.exporters) {
+				try {
+					exporter.stop();
+				}
+				catch (Exception e) {
+					logger.log(WARNING, format(WARNING_EXPORTER_FAIL, exporter.getClass().getName(), "stop", e));
+				}
+			}
+		}
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Record the given duration of the given phase of the given view ID.
+	 * @param viewId The view ID, may be <code>null</code>.
+	 * @param phaseId The phase ID, {@link PhaseId#ANY_PHASE} represents the total duration.
+	 * @param nanos The duration in nanoseconds.
+	 */
+	public void record(String viewId, PhaseId phaseId, long nanos) {
+		TimingHistogram[] phaseHistograms = histograms.get(viewId == null ? OTHER_VIEW_ID : viewId);
+
+		if (phaseHistograms == null) {
+			String key = (viewId == null || histograms.size() >= MAX_VIEW_IDS) ? OTHER_VIEW_ID : viewId;
+			phaseHistograms = histograms.computeIfAbsent(key, k -> newHistograms());
+		}
+
+		phaseHistograms[phaseId.getOrdinal()].record(nanos);
+	}
+
+	/**
+	 * Returns the tracked view IDs, sorted.
+	 * @return The tracked view IDs, sorted.
+	 */
+	public Set<String> getViewIds() {
+		return unmodifiableSet(new TreeSet<>(histograms.keySet()));
+	}
+
+	/**
+	 * Returns the histogram of the given phase of the given view ID, or <code>null</code> if the view ID is not tracked.
+	 * @param viewId The view ID.
+	 * @param phaseId The phase ID, {@link PhaseId#ANY_PHASE} represents the total duration.
+	 * @return The histogram of the given phase of the given view ID.
+	 */
+	public TimingHistogram getHistogram(String viewId, PhaseId phaseId) {
+		TimingHistogram[] phaseHistograms = histograms.get(viewId);
+		return (phaseHistograms == null) ? null : phaseHistograms[phaseId.getOrdinal()];
+	}
+
+	/**
+	 * Write the timings as plain text to the given appendable. There is one line per view ID and phase with at least
+	 * one recorded duration, composed of the whitespace separated view ID, phase name, count, and the mean, 50th, 90th,
+	 * 99th percentile and maximum duration in microseconds. The phase name of the total duration is <code>TOTAL</code>.
+	 * @param appendable The appendable to write to, e.g. a servlet response writer.
+	 * @throws IOException When an I/O error occurs.
+	 */
+	public void writeTo(Appendable appendable) throws IOException {
+		appendable.append("# viewId phase count mean p50 p90 p99 max (microseconds)\n");
+
+		for (String viewId : getViewIds()) {
+			for (PhaseId phaseId : PhaseId.VALUES) {
+				TimingHistogram histogram = getHistogram(viewId, phaseId);
+
+				if (histogram != null && histogram.getCount() > 0) {
+					appendable.append(viewId).append(' ')
+						.append(phaseId == PhaseId.ANY_PHASE ? "TOTAL" : phaseId.getName()).append(' ')
+						.append(String.valueOf(histogram.getCount())).append(' ')
+						.append(String.valueOf(histogram.getMean())).append(' ')
+						.append(String.valueOf(histogram.getValueAtPercentile(50))).append(' ')
+						.append(String.valueOf(histogram.getValueAtPercentile(90))).append(' ')
+						.append(String.valueOf(histogram.getValueAtPercentile(99))).append(' ')
+						.append(String.valueOf(histogram.getMax())).append('\n');
+				}
+			}
+		}
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private static TimingHistogram[] newHistograms() {
+		TimingHistogram[] phaseHistograms = new TimingHistogram[PHASES];
+
+		for (int i = 0; i < PHASES; i++) {
+			phaseHistograms[i] = new TimingHistogram();
+		}
+
+		return phaseHistograms;
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.eventlistener;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * SPI for exporting the {@link FacesRequestTimings} recorded by {@link FacesRequestLogger}, e.g. by registering a JMX
+ * MBean or by exposing a pull endpoint which prints {@link FacesRequestTimings#writeTo(Appendable)}.
+ * <p>
+ * Implementations can be made available by registering their fully qualified class name in a
+ * <code>META-INF/services/org.omnifaces.eventlistener.FacesRequestTimingsExporter</code> file in the classpath, conform
+ * the {@link java.util.ServiceLoader} contract. They are started once the first timings are recorded, and stopped when
+ * the web application is destroyed.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesRequestTimings
+ */
+public interface FacesRequestTimingsExporter {
+
+	/**
+	 * Start exporting the given timings. The timings are updated while being exported.
+	 * @param servletContext The involved servlet context.
+	 * @param timings The timings to export.
+	 */
+	void start(ServletContext servletContext, FacesRequestTimings timings);
+
+	/**
+	 * Stop exporting the timings. The default implementation does nothing.
+	 */
+	default void stop() {
+		// NOOP.
+	}
+
+}
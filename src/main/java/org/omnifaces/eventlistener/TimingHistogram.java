@@ -0,0 +1,153 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.eventlistener;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Thread safe histogram of durations in microseconds with a fixed memory footprint, in the spirit of HdrHistogram.
+ * Each power of two range is divided in 8 linear buckets, so a value obtained from
+ * {@link #getValueAtPercentile(double)} deviates at most 12.5% from the actually recorded duration. Durations beyond
+ * 2<sup>32</sup> microseconds (about 71 minutes) are recorded as 2<sup>32</sup> microseconds.
+ * <p>
+ * Recording does not allocate and does not lock.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesRequestTimings
+ */
+public final class TimingHistogram {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final long MAX_VALUE = 1L << 32;
+	private static final int BUCKETS = getIndex(MAX_VALUE) + 1;
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator maximum = new LongAccumulator(Math::max, 0);
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Record the given duration.
+	 * @param nanos The duration in nanoseconds. Negative durations are recorded as zero.
+	 */
+	public void record(long nanos) {
+		long value = min(NANOSECONDS.toMicros(max(nanos, 0)), MAX_VALUE);
+		counts.incrementAndGet(getIndex(value));
+		count.increment();
+		total.add(value);
+		maximum.accumulate(value);
+	}
+
+	/**
+	 * Returns the amount of recorded durations.
+	 * @return The amount of recorded durations.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the sum of all recorded durations in microseconds.
+	 * @return The sum of all recorded durations in microseconds.
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * Returns the mean of all recorded durations in microseconds, or 0 if nothing is recorded.
+	 * @return The mean of all recorded durations in microseconds.
+	 */
+	public long getMean() {
+		long currentCount = getCount();
+		return (currentCount == 0) ? 0 : (getTotal() / currentCount);
+	}
+
+	/**
+	 * Returns the maximum recorded duration in microseconds, or 0 if nothing is recorded.
+	 * @return The maximum recorded duration in microseconds.
+	 */
+	public long getMax() {
+		return maximum.get();
+	}
+
+	/**
+	 * Returns the duration in microseconds below or at which the given percentage of all recorded durations fall, or 0
+	 * if nothing is recorded. This is the highest value of the bucket containing the percentile, but never more than
+	 * {@link #getMax()}.
+	 * @param percentile The percentile, between 0 and 100.
+	 * @return The duration in microseconds at the given percentile.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long currentCount = getCount();
+
+		if (currentCount == 0) {
+			return 0;
+		}
+
+		long target = max((long) ceil(min(max(percentile, 0), 100) / 100 * currentCount), 1);
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			cumulativeCount += counts.get(i);
+
+			if (cumulativeCount >= target) {
+				return min(getHighestValue(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Values below {@link #SUB_BUCKETS} have their own bucket. Every next power of two range is divided in
+	 * {@link #SUB_BUCKETS} buckets of equal width.
+	 */
+	private static int getIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	private static long getHighestValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = (index / SUB_BUCKETS) - 1;
+		long subBucket = (index % SUB_BUCKETS) + (long) SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+}
@@ -18,8 +18,9 @@ import static jakarta.servlet.RequestDispatcher.ERROR_MESSAGE;
 import static jakarta.servlet.RequestDispatcher.ERROR_REQUEST_URI;
 import static jakarta.servlet.RequestDispatcher.ERROR_STATUS_CODE;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.SEVERE;
-import static org.omnifaces.util.Exceptions.unwrap;
 import static org.omnifaces.util.Faces.getContext;
 import static org.omnifaces.util.Faces.getServletContext;
 import static org.omnifaces.util.FacesLocal.getRemoteAddr;
@@ -37,6 +38,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 import jakarta.el.ELException;
@@ -224,6 +227,17 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 	public static final String PARAM_NAME_EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING =
 		"org.omnifaces.EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING";
 
+	/**
+	 * The context parameter name to specify the interval in seconds during which repeated logging of similar exceptions
+	 * by {@link FullAjaxExceptionHandler} should be suppressed. Exceptions are similar when they are of the same type,
+	 * are thrown from the same place and have the same error page location. The suppressed ones will be logged as FINE
+	 * without stack trace, and their count will be included in the next SEVERE log of a similar exception. Defaults to
+	 * 0, meaning that no exception will be suppressed in logging.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL =
+		"org.omnifaces.EXCEPTION_LOGGING_SUPPRESSION_INTERVAL";
+
 	/**
 	 * The request attribute name of the UUID of the thrown exception which is logged by both {@link FullAjaxExceptionHandler}
 	 * and {@link FacesExceptionFilter}.
@@ -273,8 +287,13 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 	private static final Set<Class<? extends Throwable>> STANDARD_TYPES_TO_UNWRAP =
 		unmodifiableSet(FacesException.class, ELException.class);
 
+	private static final int MAX_SUPPRESSED_EXCEPTION_KEYS = 1000;
+
 	private static final String ERROR_INVALID_EXCEPTION_TYPES_PARAM_CLASS =
 		"Context parameter '%s' references a class which cannot be found in runtime classpath: '%s'";
+	private static final String ERROR_INVALID_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL =
+		"Context parameter '%s' must be a positive number of seconds, or 0 to disable suppression."
+			+ " Encountered an invalid value of '%s'.";
 	private static final String ERROR_DEFAULT_LOCATION_MISSING =
 		"Either HTTP 500 or java.lang.Throwable error page is required in web.xml or web-fragment.xml."
 			+ " Neither was found.";
@@ -288,6 +307,10 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 		"FullAjaxExceptionHandler: An exception occurred during rendering Faces ajax response."
 			+ " Error page '%s' CANNOT be shown as response is already committed."
 			+ " Consider increasing 'jakarta.faces.FACELETS_BUFFER_SIZE' if it really needs to be handled.";
+	private static final String LOG_SUPPRESSED_EXCEPTIONS =
+		" (%d similar exceptions have been suppressed in logging since previous log)";
+	private static final String LOG_SUPPRESSED_EXCEPTION =
+		"FullAjaxExceptionHandler: Suppressed logging of similar exception %s";
 	private static final String LOG_ERROR_PAGE_ERROR =
 		"FullAjaxExceptionHandler: Well, another exception occurred during rendering error page '%s'."
 			+ " Trying to render a hardcoded error page now.";
@@ -301,8 +324,7 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 
 	// Variables ------------------------------------------------------------------------------------------------------
 
-	private Class<? extends Throwable>[] exceptionTypesToUnwrap;
-	private Class<? extends Throwable>[] exceptionTypesToIgnoreInLogging;
+	private final ApplicationState state;
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -312,8 +334,7 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 	 */
 	public FullAjaxExceptionHandler(ExceptionHandler wrapped) {
 		super(wrapped);
-		exceptionTypesToUnwrap = getExceptionTypesToUnwrap(getServletContext());
-		exceptionTypesToIgnoreInLogging = getExceptionTypesToIgnoreInLogging(getServletContext());
+		state = ApplicationState.getInstance(getServletContext());
 	}
 
 	/**
@@ -445,7 +466,7 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 
 	/**
 	 * Determine the root cause based on the caught exception, which will then be used to find the error page location.
-	 * The default implementation delegates to {@link Exceptions#unwrap(Throwable, Class...)} with {@link FacesException},
+	 * The default implementation unwraps the same way as {@link Exceptions#unwrap(Throwable, Class...)} with {@link FacesException},
 	 * {@link ELException} and the types specified in context parameter
 	 * {@value org.omnifaces.exceptionhandler.FullAjaxExceptionHandler#PARAM_NAME_EXCEPTION_TYPES_TO_UNWRAP}, if any.
 	 * @param context The involved faces context.
@@ -454,7 +475,13 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 	 * @since 1.5
 	 */
 	protected Throwable findExceptionRootCause(FacesContext context, Throwable exception) {
-		return unwrap(exception, exceptionTypesToUnwrap);
+		Throwable unwrappedException = exception;
+
+		while (state.typesToUnwrap.get(unwrappedException.getClass()) && unwrappedException.getCause() != null) {
+			unwrappedException = unwrappedException.getCause();
+		}
+
+		return unwrappedException;
 	}
 
 	/**
@@ -512,8 +539,21 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 	 * @since 1.6
 	 */
 	protected void logException(FacesContext context, Throwable exception, String location, String message, Object... parameters) {
-		if (!isOneInstanceOf(exception.getClass(), exceptionTypesToIgnoreInLogging)) {
-			logger.log(SEVERE, format("[%s][%s] %s", getRequestAttribute(context, EXCEPTION_UUID), getRemoteAddr(context), format(message, parameters)), exception);
+		if (state.typesToIgnoreInLogging.get(exception.getClass())) {
+			return;
+		}
+
+		String uuid = getRequestAttribute(context, EXCEPTION_UUID);
+		int suppressed = state.countSuppressedLogsSincePreviousLog(exception, location);
+
+		if (suppressed < 0) {
+			if (logger.isLoggable(FINE)) {
+				logger.log(FINE, format("[%s][%s] %s", uuid, getRemoteAddr(context), format(LOG_SUPPRESSED_EXCEPTION, exception)));
+			}
+		}
+		else {
+			String suffix = (suppressed > 0) ? format(LOG_SUPPRESSED_EXCEPTIONS, suppressed) : "";
+			logger.log(SEVERE, format("[%s][%s] %s%s", uuid, getRemoteAddr(context), format(message, parameters), suffix), exception);
 		}
 	}
 
@@ -598,4 +638,121 @@ public class FullAjaxExceptionHandler extends ExceptionHandlerWrapper {
 		return normalizeViewId(context, parts[0]);
 	}
 
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Application wide state of {@link FullAjaxExceptionHandler}. The exception handler itself is namely created per
+	 * request, so anything which needs to be parsed or resolved only once, or needs to be remembered across requests,
+	 * is kept here.
+	 */
+	private static final class ApplicationState {
+
+		private final ClassValue<Boolean> typesToUnwrap;
+		private final ClassValue<Boolean> typesToIgnoreInLogging;
+		private final long suppressionIntervalInMillis;
+		private final ConcurrentMap<String, SuppressedLogs> suppressedLogs = new ConcurrentHashMap<>();
+
+		private ApplicationState(ServletContext context) {
+			typesToUnwrap = new InstanceOfClassValue(getExceptionTypesToUnwrap(context));
+			typesToIgnoreInLogging = new InstanceOfClassValue(getExceptionTypesToIgnoreInLogging(context));
+			suppressionIntervalInMillis = getSuppressionIntervalInMillis(context);
+		}
+
+		private static long getSuppressionIntervalInMillis(ServletContext context) {
+			String value = context.getInitParameter(PARAM_NAME_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL);
+
+			if (isEmpty(value)) {
+				return 0;
+			}
+
+			long seconds;
+
+			try {
+				seconds = Long.parseLong(value.trim());
+			}
+			catch (NumberFormatException e) {
+				throw new IllegalArgumentException(
+					format(ERROR_INVALID_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL, PARAM_NAME_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL, value), e);
+			}
+
+			if (seconds < 0) {
+				throw new IllegalArgumentException(
+					format(ERROR_INVALID_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL, PARAM_NAME_EXCEPTION_LOGGING_SUPPRESSION_INTERVAL, value));
+			}
+
+			return SECONDS.toMillis(seconds);
+		}
+
+		static ApplicationState getInstance(ServletContext context) {
+			String name = ApplicationState.class.getName();
+			ApplicationState state = (ApplicationState) context.getAttribute(name);
+
+			if (state == null) {
+				state = new ApplicationState(context); // Race condition is harmless here.
+				context.setAttribute(name, state);
+			}
+
+			return state;
+		}
+
+		/**
+		 * Returns -1 when logging of the given exception should be suppressed, else the amount of similar exceptions
+		 * whose logging has been suppressed since previous log.
+		 */
+		int countSuppressedLogsSincePreviousLog(Throwable exception, String location) {
+			if (suppressionIntervalInMillis <= 0) {
+				return 0;
+			}
+
+			StackTraceElement[] stackTrace = exception.getStackTrace();
+			String key = exception.getClass().getName() + (stackTrace.length > 0 ? stackTrace[0] : "") + location;
+
+			if (suppressedLogs.size() > MAX_SUPPRESSED_EXCEPTION_KEYS) {
+				suppressedLogs.clear(); // Just to prevent memory exhaustion when there's an unexpected variety.
+			}
+
+			return suppressedLogs.computeIfAbsent(key, k -> new SuppressedLogs()).countSincePreviousLog(suppressionIntervalInMillis);
+		}
+	}
+
+	/**
+	 * Caches per class whether it is an instance of one of the given types.
+	 */
+	private static final class InstanceOfClassValue extends ClassValue<Boolean> {
+
+		private final Class<?>[] types;
+
+		private InstanceOfClassValue(Class<?>[] types) {
+			this.types = types;
+		}
+
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return isOneInstanceOf(type, types);
+		}
+	}
+
+	/**
+	 * Keeps track of suppressed logs of similar exceptions.
+	 */
+	private static final class SuppressedLogs {
+
+		private long previousLog;
+		private int suppressed;
+
+		synchronized int countSincePreviousLog(long suppressionIntervalInMillis) {
+			long now = System.currentTimeMillis();
+
+			if (previousLog > 0 && now - previousLog < suppressionIntervalInMillis) {
+				suppressed++;
+				return -1;
+			}
+
+			int count = suppressed;
+			previousLog = now;
+			suppressed = 0;
+			return count;
+		}
+	}
+
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ import static jakarta.servlet.DispatcherType.FORWARD;
 import static jakarta.servlet.DispatcherType.REQUEST;
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Locale.ENGLISH;
@@ -40,6 +42,7 @@ import static org.omnifaces.util.ResourcePaths.stripPrefixPath;
 import static org.omnifaces.util.ResourcePaths.stripTrailingSlash;
 import static org.omnifaces.util.Servlets.getApplicationAttribute;
 import static org.omnifaces.util.Servlets.getRequestBaseURL;
+import static org.omnifaces.util.Servlets.isFacesDevelopment;
 import static org.omnifaces.util.Utils.csvToList;
 import static org.omnifaces.util.Utils.isEmpty;
 import static org.omnifaces.util.Utils.startsWithOneOf;
@@ -50,15 +53,20 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
 
 import jakarta.faces.application.Application;
 import jakarta.faces.application.ViewHandler;
@@ -223,6 +231,25 @@ public final class FacesViews {
 	 */
 	public static final String FACES_VIEWS_LOWERCASED_REQUEST_URI_PARAM_NAME = "org.omnifaces.FACES_VIEWS_LOWERCASED_REQUEST_URI";
 
+	/**
+	 * The name of the context parameter via which the user can set the web application path of the index file in which
+	 * the outcome of the scan is stored during startup, e.g. <code>/WEB-INF/faces-views.index</code>. It must be in
+	 * <code>/WEB-INF/</code>. On subsequent startups the scan will be skipped when the configuration and the
+	 * {@link #FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME} are unchanged. The index file is ignored in Development stage.
+	 * See {@link FacesViewsIndex}.
+	 * @since 4.4
+	 */
+	public static final String FACES_VIEWS_SCAN_INDEX_PARAM_NAME = "org.omnifaces.FACES_VIEWS_SCAN_INDEX";
+
+	/**
+	 * The name of the context parameter via which the user can set the version of the deployment, e.g. the build number
+	 * or the commit hash, which must change whenever a view is added, removed or renamed. This is required when
+	 * {@link #FACES_VIEWS_SCAN_INDEX_PARAM_NAME} is set. The index file is only used when it has been stored with the
+	 * same version.
+	 * @since 4.4
+	 */
+	public static final String FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME = "org.omnifaces.FACES_VIEWS_SCAN_INDEX_VERSION";
+
 
 	// Request attributes ---------------------------------------------------------------------------------------------
 
@@ -240,6 +267,8 @@ public final class FacesViews {
 	// Constants ------------------------------------------------------------------------------------------------------
 
 	private static final String[] RESTRICTED_DIRECTORIES = { "/WEB-INF/", "/META-INF/", "/resources/" };
+	private static final String SCAN_INDEX_DIRECTORY = "/WEB-INF/";
+	private static final int SCAN_PARALLELISM = Math.min(Runtime.getRuntime().availableProcessors(), 4); // Bounded as it's mostly I/O on a few root paths.
 
 	// TODO: those should be properties of an @ApplicationScoped bean.
 	private static final String SCAN_PATHS = "org.omnifaces.facesviews.scan_paths";
@@ -253,6 +282,13 @@ public final class FacesViews {
 	private static final String ENCOUNTERED_EXTENSIONS = "org.omnifaces.facesviews.encountered_extensions";
 	private static final String MAPPED_WELCOME_FILES = "org.omnifaces.facesviews.mapped_welcome_files";
 	private static final String MULTIVIEWS_WELCOME_FILE = "org.omnifaces.facesviews.multiviews_welcome_file";
+	private static final String ROUTE_TABLE = "org.omnifaces.facesviews.route_table";
+	private static final String RESCANNER = "org.omnifaces.facesviews.rescanner";
+
+	private static final String ERROR_INVALID_SCAN_INDEX =
+		"Value '%s' is not valid for context parameter '%s'. It must be a path in " + SCAN_INDEX_DIRECTORY + ".";
+	private static final String ERROR_MISSING_SCAN_INDEX_VERSION =
+		"Context parameter '%s' is required when context parameter '%s' is set.";
 
 	private static Boolean facesViewsEnabled;
 	private static Boolean multiViewsEnabled;
@@ -349,6 +385,21 @@ public final class FacesViews {
 		}
 	}
 
+	/**
+	 * This will stop watching the scan paths for changes, if any.
+	 * This is invoked by {@link ApplicationListener}.
+	 * @param servletContext The involved servlet context.
+	 * @since 4.4
+	 */
+	public static void stopWatchingViews(ServletContext servletContext) {
+		FacesViewsRescanner rescanner = getApplicationAttribute(servletContext, RESCANNER);
+
+		if (rescanner != null) {
+			rescanner.close();
+			servletContext.removeAttribute(RESCANNER);
+		}
+	}
+
 	/**
 	 * Register a view handler that transforms a view id with extension back to an extensionless one.
 	 * This is invoked by {@link ApplicationProcessor}, because the {@link Application} has to be available.
@@ -365,14 +416,15 @@ public final class FacesViews {
 	// Scanning -------------------------------------------------------------------------------------------------------
 
 	/**
-	 * Scans for faces-views resources recursively.
+	 * Scans for faces-views resources recursively. The root paths are scanned in parallel. When this is invoked during
+	 * startup and {@link #FACES_VIEWS_SCAN_INDEX_PARAM_NAME} is set, then the scan is skipped if the index file is up to
+	 * date, or else the index file is (re)written. See {@link FacesViewsIndex}.
 	 *
 	 * @param servletContext The involved servlet context.
+	 * @param collectExtensions Whether this is invoked during startup and the encountered extensions should be stored.
 	 * @return The views found during scanning, or an empty map if no views encountered.
 	 */
 	static Map<String, String> scanAndStoreViews(ServletContext servletContext, boolean collectExtensions) {
-		Map<String, String> collectedViews = new HashMap<>();
-		Set<String> collectedExtensions = new HashSet<>();
 		Set<String> excludedPaths = new HashSet<>();
 
 		for (String[] rootPathAndExtension : getRootPathsAndExtensions(servletContext)) {
@@ -381,12 +433,22 @@ public final class FacesViews {
 			if (isExcludePath(rootPath)) {
 				excludedPaths.add(rootPath.substring(1));
 			}
-			else {
-				String extension = rootPathAndExtension[1];
-				scanViews(servletContext, rootPath, servletContext.getResourcePaths(rootPath), collectedViews, extension, collectedExtensions);
+		}
+
+		String indexPath = collectExtensions ? getScanIndexPath(servletContext) : null;
+		String indexConfiguration = (indexPath != null && !isFacesDevelopment(servletContext)) ? getScanConfiguration(servletContext) : null;
+		Map<String, String> collectedViews = (indexConfiguration != null) ? FacesViewsIndex.load(servletContext, indexPath, indexConfiguration) : null;
+
+		if (collectedViews == null) {
+			collectedViews = scanViews(servletContext);
+
+			if (indexConfiguration != null) {
+				FacesViewsIndex.store(servletContext, indexPath, indexConfiguration, collectedViews);
 			}
 		}
 
+		// Every scanned resource is by itself mapped, so the encountered extensions are those of the mapped resources.
+		Set<String> collectedExtensions = collectedViews.values().stream().map(resourcePath -> "*" + getExtension(resourcePath)).collect(toSet());
 		collectedViews.keySet().removeIf(collectedView -> excludedPaths.stream().anyMatch(collectedView::startsWith));
 
 		if (!collectedViews.isEmpty()) {
@@ -408,9 +470,10 @@ public final class FacesViews {
 				}
 			}
 
+			Map<String, String> reverseMappedResources = collectedViews.entrySet().stream()
+				.filter(e -> isExtensionless(e.getKey())).collect(toMap(Entry::getValue, Entry::getKey, (l, r) -> l));
 			servletContext.setAttribute(MAPPED_RESOURCES, unmodifiableMap(collectedViews));
-			servletContext.setAttribute(REVERSE_MAPPED_RESOURCES, unmodifiableMap(collectedViews.entrySet().stream()
-				.filter(e -> isExtensionless(e.getKey())).collect(toMap(Entry::getValue, Entry::getKey, (l, r) -> l))));
+			servletContext.setAttribute(REVERSE_MAPPED_RESOURCES, unmodifiableMap(reverseMappedResources));
 			servletContext.setAttribute(MULTIVIEWS_RESOURCES, unmodifiableSet(collectedViews.keySet().stream()
 				.filter(k -> k.endsWith("/*")).map(v -> v.substring(0, v.length() - 2)).collect(toSet())));
 			servletContext.setAttribute(EXCLUDED_PATHS, unmodifiableSet(excludedPaths));
@@ -418,11 +481,85 @@ public final class FacesViews {
 			if (collectExtensions) {
 				storeExtensions(servletContext, collectedViews, collectedExtensions);
 			}
+
+			Set<String> mappedWelcomeFiles = getMappedWelcomeFiles(servletContext);
+			servletContext.setAttribute(ROUTE_TABLE, new FacesViewsRouteTable(collectedViews, reverseMappedResources,
+				resource -> isResourceInPublicPath(servletContext, resource), (mappedWelcomeFiles != null) ? mappedWelcomeFiles : emptySet()));
 		}
 
 		return collectedViews;
 	}
 
+	/**
+	 * Rescans for faces-views resources in Development stage after a path could not be resolved, but only if it's
+	 * possible that views have been added since the previous scan. See {@link FacesViewsRescanner}.
+	 *
+	 * @param servletContext The involved servlet context.
+	 * @return Whether views have been rescanned.
+	 */
+	static boolean rescanViewsIfNecessary(ServletContext servletContext) {
+		FacesViewsRescanner rescanner = getApplicationAttribute(servletContext, RESCANNER);
+
+		if (rescanner == null) {
+			synchronized (FacesViews.class) {
+				rescanner = getApplicationAttribute(servletContext, RESCANNER);
+
+				if (rescanner == null) {
+					rescanner = new FacesViewsRescanner(getRealRootPaths(servletContext), getRealRestrictedDirectories(servletContext));
+					servletContext.setAttribute(RESCANNER, rescanner);
+				}
+			}
+		}
+
+		if (!rescanner.isRescanNecessary()) {
+			return false;
+		}
+
+		scanAndStoreViews(servletContext, false);
+		return true;
+	}
+
+	/**
+	 * Returns the file system directories of the root paths to be scanned, or <code>null</code> if any of them is not
+	 * available on the file system, e.g. when the application is not deployed exploded.
+	 */
+	private static List<Path> getRealRootPaths(ServletContext servletContext) {
+		List<Path> realRootPaths = new ArrayList<>();
+
+		for (String[] rootPathAndExtension : getRootPathsAndExtensions(servletContext)) {
+			String rootPath = rootPathAndExtension[0];
+
+			if (!isExcludePath(rootPath)) {
+				String realRootPath = servletContext.getRealPath(rootPath);
+
+				if (realRootPath == null) {
+					return null;
+				}
+
+				realRootPaths.add(Paths.get(realRootPath));
+			}
+		}
+
+		return realRootPaths;
+	}
+
+	/**
+	 * Returns the file system directories of the restricted directories, which are never scanned via the root path /.
+	 */
+	private static Set<Path> getRealRestrictedDirectories(ServletContext servletContext) {
+		Set<Path> realRestrictedDirectories = new HashSet<>();
+
+		for (String restrictedDirectory : RESTRICTED_DIRECTORIES) {
+			String realRestrictedDirectory = servletContext.getRealPath(restrictedDirectory);
+
+			if (realRestrictedDirectory != null) {
+				realRestrictedDirectories.add(Paths.get(realRestrictedDirectory));
+			}
+		}
+
+		return realRestrictedDirectories;
+	}
+
 	private static void scanAndStoreWelcomeFiles(ServletContext servletContext) {
 		URL webXml;
 
@@ -514,42 +651,112 @@ public final class FacesViews {
 	}
 
 	/**
-	 * Scans resources (views) recursively starting with the given resource paths for a specific root path, and collects
-	 * those and all unique extensions encountered in a flat map respectively set.
+	 * Scans resources (views) recursively in all root paths, in parallel using a dedicated {@link ForkJoinPool} which
+	 * is shut down afterwards, and collects those in a flat map. The results of the root paths are merged in the order
+	 * of the root paths. The pool threads get the context class loader of the current thread, which is the one of the
+	 * web application, instead of the system class loader which the default pool threads get.
 	 *
 	 * @param servletContext The involved servlet context.
-	 * @param rootPath One of the paths from which views are scanned. By default this is typically /WEB-INF/faces-view/
-	 * @param resourcePaths Collection of paths to be considered for scanning, can be either files or directories.
-	 * @param collectedViews A mapping of all views encountered during scanning. Mapping will be from the simplified
-	 * form to the actual location relatively to the web root. E.g key "foo", value "/WEB-INF/faces-view/foo.xhtml"
-	 * @param extensionToScan A specific extension to scan for. Should start with a ., e.g. ".xhtml". If this is given,
-	 * only resources with that extension will be scanned. If null, all resources will be scanned.
-	 * @param collectedExtensions Set in which all unique extensions will be collected. May be null, in which case no
-	 * extensions will be collected.
-	 */
-	private static void scanViews(ServletContext servletContext, String rootPath, Set<String> resourcePaths,
-			Map<String, String> collectedViews, String extensionToScan, Set<String> collectedExtensions)
-	{
-		if (isEmpty(resourcePaths)) {
-			return;
+	 * @return A mapping of all views encountered during scanning. Mapping will be from the simplified form to the
+	 * actual location relatively to the web root. E.g key "foo", value "/WEB-INF/faces-view/foo.xhtml"
+	 */
+	private static Map<String, String> scanViews(ServletContext servletContext) {
+		boolean hasMultiViewsWelcomeFile = hasMultiViewsWelcomeFile(servletContext);
+		getFacesServletExtensions(servletContext); // Make sure it's initialized before the tasks concurrently need it.
+		List<ScanViewsTask> tasks = new ArrayList<>();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool pool = new ForkJoinPool(SCAN_PARALLELISM, forkJoinPool -> {
+			ForkJoinWorkerThread thread = new ForkJoinWorkerThread(forkJoinPool) {};
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}, null, false);
+
+		try {
+			for (String[] rootPathAndExtension : getRootPathsAndExtensions(servletContext)) {
+				String rootPath = rootPathAndExtension[0];
+
+				if (!isExcludePath(rootPath)) {
+					ScanViewsTask task = new ScanViewsTask(servletContext, rootPath, rootPath, rootPathAndExtension[1], hasMultiViewsWelcomeFile);
+					pool.execute(task);
+					tasks.add(task);
+				}
+			}
+
+			Map<String, String> collectedViews = new HashMap<>();
+
+			for (ScanViewsTask task : tasks) {
+				collectedViews.putAll(task.join());
+			}
+
+			return collectedViews;
+		}
+		finally {
+			pool.shutdown();
 		}
+	}
 
-		boolean hasMultiViewsWelcomeFile = hasMultiViewsWelcomeFile(servletContext);
+	/**
+	 * Scans resources (views) recursively in a specific directory of a specific root path. Sub directories are forked
+	 * as separate tasks.
+	 */
+	private static final class ScanViewsTask extends RecursiveTask<Map<String, String>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient ServletContext servletContext;
+		private final String rootPath;
+		private final String directory;
+		private final String extensionToScan;
+		private final boolean hasMultiViewsWelcomeFile;
+
+		/**
+		 * @param servletContext The involved servlet context.
+		 * @param rootPath One of the paths from which views are scanned. By default this is typically /WEB-INF/faces-view/
+		 * @param directory The directory to be scanned, which is the root path itself or one of its sub directories.
+		 * @param extensionToScan A specific extension to scan for. Should start with a ., e.g. ".xhtml". If this is
+		 * given, only resources with that extension will be scanned. If null, all resources will be scanned.
+		 * @param hasMultiViewsWelcomeFile Whether there's a MultiViews welcome file.
+		 */
+		private ScanViewsTask(ServletContext servletContext, String rootPath, String directory, String extensionToScan, boolean hasMultiViewsWelcomeFile) {
+			this.servletContext = servletContext;
+			this.rootPath = rootPath;
+			this.directory = directory;
+			this.extensionToScan = extensionToScan;
+			this.hasMultiViewsWelcomeFile = hasMultiViewsWelcomeFile;
+		}
 
-		for (String resourcePath : resourcePaths) {
-			if (isDirectory(resourcePath)) {
-				if (canScanDirectory(rootPath, resourcePath)) {
-					scanViews(servletContext, rootPath, servletContext.getResourcePaths(resourcePath), collectedViews, extensionToScan, collectedExtensions);
+		@Override
+		protected Map<String, String> compute() {
+			Map<String, String> collectedViews = new HashMap<>();
+			Set<String> resourcePaths = servletContext.getResourcePaths(directory);
+
+			if (isEmpty(resourcePaths)) {
+				return collectedViews;
+			}
+
+			List<ScanViewsTask> subtasks = new ArrayList<>();
+
+			for (String resourcePath : resourcePaths) {
+				if (isDirectory(resourcePath)) {
+					if (canScanDirectory(rootPath, resourcePath)) {
+						subtasks.add(new ScanViewsTask(servletContext, rootPath, resourcePath, extensionToScan, hasMultiViewsWelcomeFile));
+					}
+				}
+				else if (canScanResource(resourcePath, extensionToScan)) {
+					scanView(servletContext, rootPath, resourcePath, collectedViews, hasMultiViewsWelcomeFile);
 				}
 			}
-			else if (canScanResource(resourcePath, extensionToScan)) {
-				scanView(servletContext, rootPath, resourcePath, collectedViews, collectedExtensions, hasMultiViewsWelcomeFile);
+
+			for (ScanViewsTask subtask : invokeAll(subtasks)) {
+				collectedViews.putAll(subtask.join());
 			}
+
+			return collectedViews;
 		}
 	}
 
 	private static void scanView(ServletContext servletContext, String rootPath, String resourcePath,
-			Map<String, String> collectedViews, Set<String> collectedExtensions, boolean hasMultiViewsWelcomeFile)
+			Map<String, String> collectedViews, boolean hasMultiViewsWelcomeFile)
 	{
 		// Strip the root path from the current path.
 		// E.g. /WEB-INF/faces-views/foo.xhtml will become foo.xhtml if the root path = /WEB-INF/faces-view/
@@ -578,11 +785,6 @@ public final class FacesViews {
 				}
 			}
 		}
-
-		// Optionally, collect all unique extensions that we have encountered.
-		if (collectedExtensions != null) {
-			collectedExtensions.add("*" + getExtension(resourcePath));
-		}
 	}
 
 	private static String normalizeRootPath(String rootPath) {
@@ -628,6 +830,41 @@ public final class FacesViews {
 		return isMultiViewsEnabled(servletContext) && !getMappedWelcomeFiles(servletContext).isEmpty();
 	}
 
+	/**
+	 * Returns the validated web application path of the scan index file, or <code>null</code> if it's not set.
+	 * @throws IllegalArgumentException When it's not in <code>/WEB-INF/</code>, as the index file lists every view, or
+	 * when the deployment version is not set, as the index file would otherwise never be invalidated.
+	 */
+	private static String getScanIndexPath(ServletContext servletContext) {
+		String indexPath = servletContext.getInitParameter(FACES_VIEWS_SCAN_INDEX_PARAM_NAME);
+
+		if (isEmpty(indexPath)) {
+			return null;
+		}
+
+		if (!indexPath.startsWith(SCAN_INDEX_DIRECTORY) || asList(indexPath.split("/")).contains("..")) {
+			throw new IllegalArgumentException(format(ERROR_INVALID_SCAN_INDEX, indexPath, FACES_VIEWS_SCAN_INDEX_PARAM_NAME));
+		}
+
+		if (isEmpty(servletContext.getInitParameter(FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME))) {
+			throw new IllegalArgumentException(format(ERROR_MISSING_SCAN_INDEX_VERSION, FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME, FACES_VIEWS_SCAN_INDEX_PARAM_NAME));
+		}
+
+		return indexPath;
+	}
+
+	/**
+	 * Returns the configuration and the deployment version which affect the outcome of
+	 * {@link #scanViews(ServletContext)}.
+	 */
+	private static String getScanConfiguration(ServletContext servletContext) {
+		return String.join("|",
+			String.valueOf(servletContext.getInitParameter(FACES_VIEWS_SCAN_PATHS_PARAM_NAME)),
+			String.valueOf(getMappedWelcomeFiles(servletContext)),
+			String.valueOf(new TreeSet<>(getFacesServletExtensions(servletContext))),
+			servletContext.getInitParameter(FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME));
+	}
+
 
 	// Helpers for FacesViewsForwardingFilter -------------------------------------------------------------------------
 
@@ -660,22 +897,6 @@ public final class FacesViews {
 		return baseURL.substring(0, baseURL.length() - 1) + stripExtension(resource) + queryString;
 	}
 
-	static String getMultiViewsWelcomeFile(ServletContext servletContext, Map<String, String> resources, String servletPath) {
-		Set<String> mappedWelcomeFiles = getMappedWelcomeFiles(servletContext);
-
-		for (Path path = Paths.get(servletPath); path.getParent() != null; path = path.getParent()) {
-			for (String mappedWelcomeFile : mappedWelcomeFiles) {
-				String subfolderWelcomeFile = path.toString() + mappedWelcomeFile;
-
-				if (resources.containsKey(subfolderWelcomeFile + "/*")) {
-					return subfolderWelcomeFile;
-				}
-			}
-		}
-
-		return getMultiViewsWelcomeFile(servletContext);
-	}
-
 
 	// Helpers for FacesViewsViewHandler ------------------------------------------------------------------------------
 
@@ -765,6 +986,10 @@ public final class FacesViews {
 		return getApplicationAttribute(servletContext, MULTIVIEWS_WELCOME_FILE);
 	}
 
+	static FacesViewsRouteTable getRouteTable(ServletContext servletContext) {
+		return getApplicationAttribute(servletContext, ROUTE_TABLE);
+	}
+
 
 	// Utility --------------------------------------------------------------------------------------------------------
 
@@ -20,23 +20,18 @@ import static org.omnifaces.facesviews.FacesViews.FACES_VIEWS_ORIGINAL_PATH_INFO
 import static org.omnifaces.facesviews.FacesViews.FACES_VIEWS_ORIGINAL_SERVLET_PATH;
 import static org.omnifaces.facesviews.FacesViews.getExtensionAction;
 import static org.omnifaces.facesviews.FacesViews.getExtensionlessURLWithQuery;
-import static org.omnifaces.facesviews.FacesViews.getMappedResources;
 import static org.omnifaces.facesviews.FacesViews.getMultiViewsWelcomeFile;
 import static org.omnifaces.facesviews.FacesViews.getPathAction;
-import static org.omnifaces.facesviews.FacesViews.getReverseMappedResources;
+import static org.omnifaces.facesviews.FacesViews.getRouteTable;
 import static org.omnifaces.facesviews.FacesViews.isMultiViewsEnabled;
-import static org.omnifaces.facesviews.FacesViews.isResourceInPublicPath;
-import static org.omnifaces.facesviews.FacesViews.scanAndStoreViews;
+import static org.omnifaces.facesviews.FacesViews.rescanViewsIfNecessary;
 import static org.omnifaces.facesviews.FacesViews.stripWelcomeFilePrefix;
 import static org.omnifaces.util.Faces.getApplicationFromFactory;
-import static org.omnifaces.util.ResourcePaths.getExtension;
 import static org.omnifaces.util.ResourcePaths.isExtensionless;
-import static org.omnifaces.util.ResourcePaths.stripTrailingSlash;
 import static org.omnifaces.util.Servlets.getRequestRelativeURI;
 import static org.omnifaces.util.Servlets.redirectPermanent;
 
 import java.io.IOException;
-import java.util.Map;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.RequestDispatcher;
@@ -46,6 +41,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
+import org.omnifaces.facesviews.FacesViewsRouteTable.Route;
 import org.omnifaces.filter.HttpFilter;
 
 /**
@@ -55,6 +51,9 @@ import org.omnifaces.filter.HttpFilter;
  * A filter like this is needed for extensionless requests, since the FacesServlet does not take into account any other
  * mapping than prefix- and extension (suffix) mapping.
  * <p>
+ * Since 4.4, the request path is resolved in a single walk over the {@link FacesViewsRouteTable} compiled during
+ * scanning, wherein the forward targets are precomputed.
+ * <p>
  * For a guide on FacesViews, please see the <a href="package-summary.html">package summary</a>.
  *
  * @author Arjan Tijms
@@ -83,7 +82,38 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 
 	@Override
 	public void doFilter(HttpServletRequest request, HttpServletResponse response, HttpSession session, FilterChain chain) throws ServletException, IOException {
-		if (!(filterExtensionLess(request, response, chain) || filterExtension(request, response) || filterPublicPath(request, response))) {
+		ServletContext servletContext = getServletContext();
+		FacesViewsRouteTable routeTable = getRouteTable(servletContext);
+		String servletPath = request.getServletPath();
+		int normalizedLength = servletPath.length();
+
+		while (normalizedLength > 0 && servletPath.charAt(normalizedLength - 1) == '/') {
+			normalizedLength--;
+		}
+
+		Route normalizedRoute = routeTable.find(servletPath, normalizedLength);
+
+		if (isExtensionless(servletPath)) {
+			boolean multiViews = isMultiViewsEnabled(request);
+
+			if (getApplicationFromFactory().getProjectStage() == Development && !isMapped(normalizedRoute, multiViews)
+				&& rescanViewsIfNecessary(servletContext))
+			{
+				// The resource may have been dynamically added, so the faces-views location(s) have been scanned again.
+				routeTable = getRouteTable(servletContext);
+				normalizedRoute = routeTable.find(servletPath, normalizedLength);
+			}
+
+			if (filterExtensionLess(request, response, chain, routeTable, normalizedRoute, multiViews)) {
+				return;
+			}
+		}
+
+		Route route = (normalizedLength == servletPath.length())
+			? normalizedRoute
+			: routeTable.find(normalizedRoute, servletPath, normalizedLength, servletPath.length());
+
+		if (!(filterExtension(request, response, route) || filterPublicPath(request, response, route))) {
 			chain.doFilter(request, response);
 		}
 	}
@@ -92,32 +122,21 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 	 * A mapped resource request without extension is encountered.
 	 * The user setting "dispatchMethod" determines how we handle this.
 	 */
-	private boolean filterExtensionLess(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
-			throws IOException, ServletException
+	private boolean filterExtensionLess(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+			FacesViewsRouteTable routeTable, Route route, boolean multiViews) throws IOException, ServletException
 	{
-		String servletPath = request.getServletPath();
-
-		if (!isExtensionless(servletPath)) {
-			return false;
-		}
-
-		ServletContext servletContext = getServletContext();
-		boolean multiViews = isMultiViewsEnabled(request);
-		Map<String, String> resources = getMappedResources(servletContext);
-		String normalizedServletPath = stripTrailingSlash(servletPath);
-		String resource = normalizedServletPath + (multiViews ? "/*" : "");
-
-		if (getApplicationFromFactory().getProjectStage() == Development && !resources.containsKey(resource)) {
-			// Check if the resource was dynamically added by scanning the faces-views location(s) again.
-			resources = scanAndStoreViews(servletContext, false);
-		}
+		if (multiViews && !isMapped(route, true)) {
+			String servletPath = request.getServletPath();
 
-		if (multiViews && !resources.containsKey(resource)) {
 			if (request.getPathInfo() != null) {
 				servletPath += request.getPathInfo();
 			}
 
-			resource = getMultiViewsWelcomeFile(servletContext, resources, servletPath);
+			String resource = routeTable.findMultiViewsWelcomeFile(servletPath);
+
+			if (resource == null) {
+				resource = getMultiViewsWelcomeFile(getServletContext());
+			}
 
 			if (resource != null) {
 				String pathInfo = servletPath.substring(resource.substring(0, resource.lastIndexOf('/')).length());
@@ -127,20 +146,14 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 			}
 		}
 
-		return filterExtensionLess(request, response, chain, resources, resource, normalizedServletPath);
-	}
-
-	private boolean filterExtensionLess(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
-			Map<String, String> resources, String resource, String path) throws IOException, ServletException
-	{
-		if (resources.containsKey(resource)) {
-			if (redirectExtensionLessWelcomeFileToFolderIfNecessary(request, response, path)) {
+		if (isMapped(route, multiViews)) {
+			if (redirectExtensionLessWelcomeFileToFolderIfNecessary(request, response, route.getPath())) {
 				return true;
 			}
 
-			String servletPathWithExtension = path + getExtension(resources.get(resource));
+			String servletPathWithExtension = route.getForward(multiViews);
 
-			if (resources.containsKey(servletPathWithExtension)) {
+			if (route.isForwardMapped(multiViews)) {
 				filterExtensionLessToExtension(request, response, chain, servletPathWithExtension);
 				return true;
 			}
@@ -212,14 +225,11 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 	 * A mapped resource request with extension is encountered.
 	 * The user setting "extensionAction" determines how we handle this.
 	 */
-	private boolean filterExtension(HttpServletRequest request, HttpServletResponse response) throws IOException {
-		String resource = request.getServletPath();
-		Map<String, String> resources = getMappedResources(getServletContext());
-
-		if (resources.containsKey(resource)) {
-			if (resources.get(resource) != null) {
+	private boolean filterExtension(HttpServletRequest request, HttpServletResponse response, Route route) throws IOException {
+		if (isMapped(route, false)) {
+			if (route.getResource() != null) {
 				if (extensionAction == REDIRECT_TO_EXTENSIONLESS) {
-					redirectPermanent(response, getExtensionlessURLWithQuery(request, resource));
+					redirectPermanent(response, getExtensionlessURLWithQuery(request, request.getServletPath()));
 					return true;
 				}
 				else if (extensionAction == PROCEED) {
@@ -238,19 +248,13 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 	 * A direct request to one of the public paths (excluding /) from where we scanned resources is encountered.
 	 * The user setting "pathAction" determines how we handle this.
 	 */
-	private boolean filterPublicPath(HttpServletRequest request, HttpServletResponse response) throws IOException {
-		String resource = request.getServletPath();
-
-		if (!isResourceInPublicPath(getServletContext(), resource)) {
-			return false;
-		}
-
-		Map<String, String> reverseResources = getReverseMappedResources(getServletContext());
+	private boolean filterPublicPath(HttpServletRequest request, HttpServletResponse response, Route route) throws IOException {
+		String extensionlessResource = (route != null) ? route.getPublicPathRedirect() : null;
 
-		if (reverseResources.containsKey(resource)) {
+		if (extensionlessResource != null) {
 			switch (pathAction) {
 				case REDIRECT_TO_SCANNED_EXTENSIONLESS:
-					redirectPermanent(response, getExtensionlessURLWithQuery(request, reverseResources.get(resource)));
+					redirectPermanent(response, getExtensionlessURLWithQuery(request, extensionlessResource));
 					return true;
 				case SEND_404:
 					response.sendError(SC_NOT_FOUND);
@@ -263,4 +267,8 @@ public class FacesViewsForwardingFilter extends HttpFilter {
 		return false;
 	}
 
+	private static boolean isMapped(Route route, boolean multiViews) {
+		return route != null && route.isMapped(multiViews);
+	}
+
 }
\ No newline at end of file
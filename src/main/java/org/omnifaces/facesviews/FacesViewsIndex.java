@@ -0,0 +1,164 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.facesviews;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * Loads and stores the outcome of the FacesViews scan in a properties file in the web application, so that subsequent
+ * startups of the same deployment can skip scanning the scan paths. See
+ * {@link FacesViews#FACES_VIEWS_SCAN_INDEX_PARAM_NAME}.
+ * <p>
+ * The index file holds the scanned views along with the configuration they were scanned with, which includes the
+ * deployment version as set by {@link FacesViews#FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME}. It is only used when both
+ * are unchanged. The index file is loaded as a web resource, so it can also be generated during the build and shipped
+ * in the WAR. It is only written when the web application is deployed exploded.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesViews
+ */
+final class FacesViewsIndex {
+
+	private static final Logger logger = Logger.getLogger(FacesViewsIndex.class.getName());
+
+	private static final String FORMAT_VERSION = "1";
+	private static final String KEY_CONFIGURATION = "configuration";
+	private static final String KEY_VIEW_PREFIX = "view.";
+
+	private static final String WARNING_INDEX_NOT_WRITABLE =
+		"FacesViews: cannot write scan index '%s', because the web application is not deployed exploded.";
+	private static final String WARNING_INDEX_WRITE_FAILED =
+		"FacesViews: cannot write scan index '%s': %s";
+
+	private FacesViewsIndex() {
+		//
+	}
+
+	/**
+	 * Returns the scanned views from the given index file, or <code>null</code> if there is no such index file, or if
+	 * it has been stored with a different configuration or deployment version.
+	 * @param servletContext The involved servlet context.
+	 * @param path The web application path of the index file.
+	 * @param configuration The configuration the views are to be scanned with, including the deployment version.
+	 * @return The scanned views from the given index file, or <code>null</code> if it's absent or outdated.
+	 */
+	static Map<String, String> load(ServletContext servletContext, String path, String configuration) {
+		Properties index = new Properties();
+
+		try (InputStream input = servletContext.getResourceAsStream(path)) {
+			if (input == null) {
+				return null;
+			}
+
+			index.load(input);
+		}
+		catch (IOException | IllegalArgumentException e) {
+			logger.log(FINE, "Ignoring thrown exception; can only happen when index is corrupt, it will be rewritten.", e);
+			return null;
+		}
+
+		if (!(FORMAT_VERSION + configuration).equals(index.getProperty(KEY_CONFIGURATION))) {
+			return null;
+		}
+
+		Map<String, String> views = new HashMap<>(index.size());
+
+		for (String key : index.stringPropertyNames()) {
+			if (key.startsWith(KEY_VIEW_PREFIX)) {
+				views.put(key.substring(KEY_VIEW_PREFIX.length()), index.getProperty(key));
+			}
+		}
+
+		return views;
+	}
+
+	/**
+	 * Stores the given scanned views in the given index file, if the web application is deployed exploded. Any failure
+	 * is logged and otherwise ignored, as the index file is merely an optimization.
+	 * @param servletContext The involved servlet context.
+	 * @param path The web application path of the index file.
+	 * @param configuration The configuration the views have been scanned with, including the deployment version.
+	 * @param views The scanned views.
+	 */
+	static void store(ServletContext servletContext, String path, String configuration, Map<String, String> views) {
+		String realPath = servletContext.getRealPath(path);
+
+		if (realPath == null) {
+			logger.log(WARNING, format(WARNING_INDEX_NOT_WRITABLE, path));
+			return;
+		}
+
+		Properties index = new Properties();
+		index.setProperty(KEY_CONFIGURATION, FORMAT_VERSION + configuration);
+
+		for (Entry<String, String> view : views.entrySet()) {
+			index.setProperty(KEY_VIEW_PREFIX + view.getKey(), view.getValue());
+		}
+
+		Path file = Paths.get(realPath);
+		Path temp = null;
+
+		try {
+			Files.createDirectories(file.getParent());
+			temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+			try (OutputStream output = Files.newOutputStream(temp)) {
+				index.store(output, "OmniFaces FacesViews scan index");
+			}
+
+			try {
+				Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				logger.log(FINE, "Ignoring thrown exception; will fall back to non-atomic move.", e);
+				Files.move(temp, file, REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | SecurityException e) {
+			logger.log(WARNING, format(WARNING_INDEX_WRITE_FAILED, path, e));
+			deleteQuietly(temp);
+		}
+	}
+
+	private static void deleteQuietly(Path temp) {
+		if (temp != null) {
+			try {
+				Files.deleteIfExists(temp);
+			}
+			catch (IOException e) {
+				logger.log(FINE, "Ignoring thrown exception; can only happen when temp file is locked.", e);
+			}
+		}
+	}
+
+}
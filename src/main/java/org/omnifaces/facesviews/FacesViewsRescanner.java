@@ -0,0 +1,183 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.facesviews;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Decides in Development stage whether the FacesViews scan paths need to be rescanned after a request path could not
+ * be resolved, so that views added at runtime are picked up without rescanning on every single miss.
+ * <p>
+ * When all scan paths are available on the file system, i.e. the application is deployed exploded, then a
+ * {@link WatchService} on those directories signals whether files or directories have been created or deleted since the
+ * previous scan. Without any such change a miss does not cause a rescan. Otherwise, or when the watcher has failed, misses
+ * cause at most one rescan per {@value #MIN_RESCAN_INTERVAL_SECONDS} seconds, regardless of the path.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesViews
+ */
+final class FacesViewsRescanner {
+
+	private static final Logger logger = Logger.getLogger(FacesViewsRescanner.class.getName());
+
+	private static final long MIN_RESCAN_INTERVAL_SECONDS = 2;
+
+	private static final String WARNING_WATCH_SERVICE_UNAVAILABLE =
+		"FacesViews: cannot watch scan paths for changes, falling back to rescanning on misses: %s";
+	private static final String WARNING_WATCHER_FAILED =
+		"FacesViews: watching scan paths for changes has failed, falling back to rescanning on misses.";
+
+	private final AtomicBoolean changed = new AtomicBoolean(true); // Changes between initial scan and now are unknown.
+	private final AtomicLong nextRescanAllowed = new AtomicLong(System.nanoTime());
+	private final Collection<Path> skippedDirectories;
+	private volatile WatchService watchService;
+
+	/**
+	 * Creates the rescanner and, if the given root directories are not <code>null</code>, starts watching them.
+	 * @param rootDirectories The root directories of the scan paths, or <code>null</code> if not all of them are
+	 * available on the file system.
+	 * @param skippedDirectories The directories which must not be watched when they're inside a root directory.
+	 */
+	FacesViewsRescanner(Collection<Path> rootDirectories, Collection<Path> skippedDirectories) {
+		this.skippedDirectories = skippedDirectories;
+
+		if (rootDirectories != null) {
+			try {
+				WatchService service = FileSystems.getDefault().newWatchService();
+				watchService = service;
+
+				for (Path rootDirectory : rootDirectories) {
+					if (Files.isDirectory(rootDirectory)) {
+						register(service, rootDirectory);
+					}
+				}
+
+				Thread watcher = new Thread(() -> watch(service), "OmniFaces FacesViews watcher");
+				watcher.setDaemon(true);
+				watcher.start();
+			}
+			catch (IOException | UnsupportedOperationException e) {
+				logger.log(WARNING, format(WARNING_WATCH_SERVICE_UNAVAILABLE, e));
+				close();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the scan paths need to be rescanned because a path could not be resolved.
+	 * @return Whether the scan paths need to be rescanned.
+	 */
+	boolean isRescanNecessary() {
+		if (watchService != null) {
+			return changed.getAndSet(false);
+		}
+
+		long now = System.nanoTime();
+		long next = nextRescanAllowed.get();
+		return next - now <= 0 && nextRescanAllowed.compareAndSet(next, now + SECONDS.toNanos(MIN_RESCAN_INTERVAL_SECONDS));
+	}
+
+	/**
+	 * Stops watching, if any.
+	 */
+	void close() {
+		WatchService service = watchService;
+		watchService = null;
+
+		if (service != null) {
+			try {
+				service.close();
+			}
+			catch (IOException e) {
+				logger.log(FINE, "Ignoring thrown exception; can only happen when closing failed.", e);
+			}
+		}
+	}
+
+	private void register(WatchService service, Path directory) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+				if (!dir.equals(directory) && skippedDirectories.contains(dir)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+
+				dir.register(service, ENTRY_CREATE, ENTRY_DELETE);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private void watch(WatchService service) {
+		try {
+			while (true) {
+				WatchKey key = service.take();
+
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == ENTRY_CREATE) {
+						registerIfDirectory(service, ((Path) key.watchable()).resolve((Path) event.context()));
+					}
+				}
+
+				changed.set(true);
+				key.reset();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ClosedWatchServiceException e) {
+			logger.log(FINE, "Ignoring thrown exception; can only happen when watcher is closed.", e);
+		}
+		catch (RuntimeException e) {
+			logger.log(WARNING, WARNING_WATCHER_FAILED, e);
+		}
+		finally {
+			close(); // So that isRescanNecessary() falls back instead of waiting for changes which are never signaled.
+		}
+	}
+
+	private void registerIfDirectory(WatchService service, Path path) {
+		if (Files.isDirectory(path)) {
+			try {
+				register(service, path);
+			}
+			catch (IOException e) {
+				logger.log(FINE, "Ignoring thrown exception; can only happen when directory is concurrently deleted.", e);
+			}
+		}
+	}
+
+}
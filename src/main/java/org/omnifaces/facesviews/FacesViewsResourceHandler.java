@@ -14,7 +14,7 @@ package org.omnifaces.facesviews;
 
 import static org.omnifaces.facesviews.FacesViews.getMappedPath;
 import static org.omnifaces.facesviews.FacesViews.isFacesViewsEnabled;
-import static org.omnifaces.facesviews.FacesViews.scanAndStoreViews;
+import static org.omnifaces.facesviews.FacesViews.rescanViewsIfNecessary;
 import static org.omnifaces.util.Faces.isDevelopment;
 import static org.omnifaces.util.FacesLocal.getServletContext;
 import static org.omnifaces.util.Utils.coalesce;
@@ -56,10 +56,9 @@ public class FacesViewsResourceHandler extends ResourceHandlerWrapper {
 
 		ViewResource resource = createMappedViewResource(context, path);
 
-		if (resource == null && isDevelopment()) {
+		if (resource == null && isDevelopment() && rescanViewsIfNecessary(getServletContext(context))) {
 			// If resource is null it means it wasn't found.
-			// Check if the resource was dynamically added by scanning the faces-views location(s) again.
-			scanAndStoreViews(getServletContext(context), false);
+			// The resource may have been dynamically added, so the faces-views location(s) have been scanned again.
 			resource = createMappedViewResource(context, path);
 		}
 
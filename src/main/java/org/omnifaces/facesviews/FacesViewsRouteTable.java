@@ -0,0 +1,339 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.facesviews;
+
+import static org.omnifaces.util.ResourcePaths.getExtension;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Immutable trie over the path segments of the resources mapped by {@link FacesViews}, which allows the
+ * {@link FacesViewsForwardingFilter} to resolve a request path in a single walk, without building intermediate strings
+ * and without repeated map lookups.
+ * <p>
+ * Each node represents a path, the root node representing the empty path. Mapped resources ending with
+ * <code>/*</code> (MultiViews) are represented by the node of the path before the <code>/*</code>. The forward
+ * target of an extensionless request and whether that target is mapped by itself are precomputed per node, as is the
+ * extensionless resource to redirect to when the path is a scanned resource in a public path.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see FacesViews
+ * @see FacesViewsForwardingFilter
+ */
+final class FacesViewsRouteTable {
+
+	private static final Route[] NO_CHILDREN = {};
+	private static final String[] NO_SEGMENTS = {};
+
+	private final Route root;
+	private final String[] welcomeFiles;
+
+	/**
+	 * Compiles the route table.
+	 * @param mappedResources The mapped resources, see {@link FacesViews#getMappedResources(jakarta.servlet.ServletContext)}.
+	 * @param reverseMappedResources The reverse mapped resources, see {@link FacesViews#getReverseMappedResources(jakarta.servlet.ServletContext)}.
+	 * @param inPublicPath Whether the given resource is in a public path.
+	 * @param welcomeFiles The mapped extensionless welcome files.
+	 */
+	FacesViewsRouteTable(Map<String, String> mappedResources, Map<String, String> reverseMappedResources,
+		Predicate<String> inPublicPath, Collection<String> welcomeFiles)
+	{
+		Builder builder = new Builder("");
+
+		for (Entry<String, String> mappedResource : mappedResources.entrySet()) {
+			String resource = mappedResource.getKey();
+
+			if (!resource.startsWith("/")) {
+				continue; // Can never be matched by a servlet path anyway.
+			}
+
+			if (resource.endsWith("/*")) {
+				Route route = builder.add(resource.substring(0, resource.length() - 2)).route;
+				route.multiViewsMapped = true;
+				route.multiViewsResource = mappedResource.getValue();
+			}
+			else {
+				Route route = builder.add(resource).route;
+				route.mapped = true;
+				route.resource = mappedResource.getValue();
+			}
+		}
+
+		for (Entry<String, String> reverseMappedResource : reverseMappedResources.entrySet()) {
+			if (inPublicPath.test(reverseMappedResource.getKey())) {
+				builder.add(reverseMappedResource.getKey()).route.publicPathRedirect = reverseMappedResource.getValue();
+			}
+		}
+
+		root = builder.build(mappedResources);
+		this.welcomeFiles = welcomeFiles.toArray(new String[welcomeFiles.size()]);
+	}
+
+	/**
+	 * Returns the route of the given path up to the given end index, or <code>null</code> if there is none.
+	 * @param path The path, which must be empty or start with a slash.
+	 * @param end The end index in the path.
+	 * @return The route of the given path up to the given end index, or <code>null</code> if there is none.
+	 */
+	Route find(String path, int end) {
+		return find(root, path, 0, end);
+	}
+
+	/**
+	 * Continues finding the route of the given path from the given route, which must represent the path up to the
+	 * given start index.
+	 * @param route The route to continue from, may be <code>null</code>.
+	 * @param path The path.
+	 * @param start The start index in the path, which must be at a slash or at the end index.
+	 * @param end The end index in the path.
+	 * @return The route of the given path up to the given end index, or <code>null</code> if there is none.
+	 */
+	Route find(Route route, String path, int start, int end) {
+		Route current = route;
+
+		for (int i = start; current != null && i < end;) {
+			if (path.charAt(i) != '/') {
+				return null;
+			}
+
+			int next = path.indexOf('/', i + 1);
+
+			if (next < 0 || next > end) {
+				next = end;
+			}
+
+			current = current.getChild(path, i + 1, next);
+			i = next;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the MultiViews welcome file nearest to the given path, or <code>null</code> if there is none. That is,
+	 * for the given path and each of its parent paths except the root, the first mapped welcome file which is a
+	 * MultiViews resource in that path. Empty path segments are ignored.
+	 * @param path The path.
+	 * @return The MultiViews welcome file nearest to the given path, or <code>null</code> if there is none.
+	 */
+	String findMultiViewsWelcomeFile(String path) {
+		return (welcomeFiles.length == 0) ? null : findMultiViewsWelcomeFile(root, path, 0);
+	}
+
+	private String findMultiViewsWelcomeFile(Route route, String path, int from) {
+		int start = from;
+
+		while (start < path.length() && path.charAt(start) == '/') {
+			start++;
+		}
+
+		if (start < path.length()) {
+			int end = path.indexOf('/', start);
+
+			if (end < 0) {
+				end = path.length();
+			}
+
+			Route child = route.getChild(path, start, end);
+
+			if (child != null) {
+				String welcomeFile = findMultiViewsWelcomeFile(child, path, end);
+
+				if (welcomeFile != null) {
+					return welcomeFile;
+				}
+			}
+		}
+
+		if (route != root) {
+			for (String welcomeFile : welcomeFiles) {
+				Route welcomeFileRoute = find(route, welcomeFile, 0, welcomeFile.length());
+
+				if (welcomeFileRoute != null && welcomeFileRoute.multiViewsMapped) {
+					return welcomeFileRoute.path;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static int compare(String segment, String path, int start, int end) {
+		int length = end - start;
+		int limit = Math.min(segment.length(), length);
+
+		for (int i = 0; i < limit; i++) {
+			char c1 = segment.charAt(i);
+			char c2 = path.charAt(start + i);
+
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+		}
+
+		return segment.length() - length;
+	}
+
+	/**
+	 * A node in the route table.
+	 */
+	static final class Route {
+
+		private final String path;
+		private String[] segments = NO_SEGMENTS;
+		private Route[] children = NO_CHILDREN;
+		private boolean mapped;
+		private String resource;
+		private boolean multiViewsMapped;
+		private String multiViewsResource;
+		private String forward;
+		private boolean forwardMapped;
+		private String multiViewsForward;
+		private boolean multiViewsForwardMapped;
+		private String publicPathRedirect;
+
+		private Route(String path) {
+			this.path = path;
+		}
+
+		private Route getChild(String path, int start, int end) {
+			int low = 0;
+			int high = segments.length - 1;
+
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int compare = compare(segments[mid], path, start, end);
+
+				if (compare < 0) {
+					low = mid + 1;
+				}
+				else if (compare > 0) {
+					high = mid - 1;
+				}
+				else {
+					return children[mid];
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * Returns the path this route represents.
+		 * @return The path this route represents.
+		 */
+		String getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns whether this path, or with <code>multiViews</code> this path followed by <code>/*</code>, is a
+		 * mapped resource.
+		 * @param multiViews Whether to check the MultiViews resource.
+		 * @return Whether this path is a mapped resource.
+		 */
+		boolean isMapped(boolean multiViews) {
+			return multiViews ? multiViewsMapped : mapped;
+		}
+
+		/**
+		 * Returns the actual resource this path is mapped to, which may be <code>null</code> for a mapped resource with
+		 * extension which is only mapped in its lowercased form.
+		 * @return The actual resource this path is mapped to.
+		 */
+		String getResource() {
+			return resource;
+		}
+
+		/**
+		 * Returns the path with extension to forward to when this path, or with <code>multiViews</code> this path
+		 * followed by <code>/*</code>, is requested without extension.
+		 * @param multiViews Whether to return the MultiViews forward.
+		 * @return The path with extension to forward to.
+		 */
+		String getForward(boolean multiViews) {
+			return multiViews ? multiViewsForward : forward;
+		}
+
+		/**
+		 * Returns whether the path returned by {@link #getForward(boolean)} is by itself a mapped resource.
+		 * @param multiViews Whether to check the MultiViews forward.
+		 * @return Whether the forward is by itself a mapped resource.
+		 */
+		boolean isForwardMapped(boolean multiViews) {
+			return multiViews ? multiViewsForwardMapped : forwardMapped;
+		}
+
+		/**
+		 * Returns the extensionless resource to redirect to when this path is requested directly via a public path, or
+		 * <code>null</code> if there is none.
+		 * @return The extensionless resource to redirect to when this path is requested directly via a public path.
+		 */
+		String getPublicPathRedirect() {
+			return publicPathRedirect;
+		}
+	}
+
+	/**
+	 * Mutable counterpart of {@link Route} during compilation.
+	 */
+	private static final class Builder {
+
+		private final Route route;
+		private final Map<String, Builder> children = new TreeMap<>();
+
+		private Builder(String path) {
+			route = new Route(path);
+		}
+
+		private Builder add(String path) {
+			Builder current = this;
+
+			if (path.isEmpty()) {
+				return current;
+			}
+
+			for (String segment : path.substring(1).split("/", -1)) {
+				String parentPath = current.route.path;
+				current = current.children.computeIfAbsent(segment, k -> new Builder(parentPath + "/" + k));
+			}
+
+			return current;
+		}
+
+		private Route build(Map<String, String> mappedResources) {
+			if (route.mapped && route.resource != null) {
+				route.forward = route.path + getExtension(route.resource);
+				route.forwardMapped = mappedResources.containsKey(route.forward);
+			}
+
+			if (route.multiViewsMapped) {
+				route.multiViewsForward = route.path + getExtension(route.multiViewsResource);
+				route.multiViewsForwardMapped = mappedResources.containsKey(route.multiViewsForward);
+			}
+
+			if (!children.isEmpty()) {
+				route.segments = children.keySet().toArray(new String[children.size()]);
+				route.children = children.values().stream().map(child -> child.build(mappedResources)).toArray(Route[]::new);
+			}
+
+			return route;
+		}
+	}
+
+}
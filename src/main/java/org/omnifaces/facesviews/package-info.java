@@ -347,6 +347,25 @@
  * </td>
  * </tr>
  *
+ * <tr>
+ * <td class="colFirst"><code>{@value org.omnifaces.facesviews.FacesViews#FACES_VIEWS_SCAN_INDEX_PARAM_NAME}</code></td>
+ * <td>Used to set the web application path of the index file in which the outcome of the scan is stored during startup,
+ * e.g. <code>/WEB-INF/faces-views.index</code>. It must be in <code>/WEB-INF/</code>. Subsequent startups will skip the scan when this file is present
+ * and the configuration and <code>{@value org.omnifaces.facesviews.FacesViews#FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME}</code> are unchanged.
+ * The file is written on startup when the web application is deployed exploded, or it can be generated during the build.
+ * It is ignored in Development stage.
+ * <br>Default value: none (the scan paths are scanned on every startup)
+ * </td>
+ * </tr>
+ *
+ * <tr>
+ * <td class="colFirst"><code>{@value org.omnifaces.facesviews.FacesViews#FACES_VIEWS_SCAN_INDEX_VERSION_PARAM_NAME}</code></td>
+ * <td>Used to set the version of the deployment, e.g. the build number or the commit hash, which must change whenever a view is added, removed or renamed.
+ * This is required when <code>{@value org.omnifaces.facesviews.FacesViews#FACES_VIEWS_SCAN_INDEX_PARAM_NAME}</code> is set.
+ * <br>Default value: none
+ * </td>
+ * </tr>
+ *
  * </table>
  *
  *
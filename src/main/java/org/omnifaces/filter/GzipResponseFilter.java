@@ -12,14 +12,29 @@
  */
 package org.omnifaces.filter;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static org.omnifaces.util.Servlets.getRemoteAddr;
 import static org.omnifaces.util.Utils.unmodifiableSet;
 
 import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
 
 import jakarta.faces.webapp.FacesServlet;
 import jakarta.servlet.FilterChain;
@@ -31,6 +46,8 @@ import jakarta.servlet.http.HttpSession;
 import org.omnifaces.io.ResettableBuffer;
 import org.omnifaces.io.ResettableBufferedOutputStream;
 import org.omnifaces.io.ResettableBufferedWriter;
+import org.omnifaces.servlet.CompressionCodec;
+import org.omnifaces.servlet.DeflaterCompressionCodec;
 import org.omnifaces.servlet.GzipHttpServletResponse;
 import org.omnifaces.servlet.HttpServletResponseOutputWrapper;
 
@@ -113,6 +130,71 @@ import org.omnifaces.servlet.HttpServletResponseOutputWrapper;
  * <p>
  * Since 3.11, <code>application/x-javascript</code> has been added to default <code>mimetypes</code>.
  *
+ * <h2>Compression tuning (optional)</h2>
+ * <p>
+ * Since 4.4, the compression itself can be tuned with the following initialization parameters, also to be placed in
+ * the <code>&lt;filter&gt;</code> element:
+ * <pre>
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The compression level. Must be a number between 1 and 99, or -1 for the codec default. Defaults to -1.&lt;/description&gt;
+ *     &lt;param-name&gt;compressionLevel&lt;/param-name&gt;
+ *     &lt;param-value&gt;-1&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The compression strategy. Must be one of default, filtered or huffman_only. Defaults to default.&lt;/description&gt;
+ *     &lt;param-name&gt;compressionStrategy&lt;/param-name&gt;
+ *     &lt;param-value&gt;default&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The size in bytes of the compressed data buffer. Must be a number between 1 and 999999. Defaults to 512.&lt;/description&gt;
+ *     &lt;param-name&gt;bufferSize&lt;/param-name&gt;
+ *     &lt;param-value&gt;512&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The maximum amount of idle deflaters to keep for reuse. Must be a number between 1 and 9999. Defaults to 4 times the amount of available processors.&lt;/description&gt;
+ *     &lt;param-name&gt;poolSize&lt;/param-name&gt;
+ *     &lt;param-value&gt;32&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * &lt;init-param&gt;
+ *     &lt;description&gt;Whether to skip compression for clients on a local network. Defaults to false.&lt;/description&gt;
+ *     &lt;param-name&gt;skipLocalNetwork&lt;/param-name&gt;
+ *     &lt;param-value&gt;false&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * </pre>
+ * <p>
+ * A lower <code>compressionLevel</code> saves CPU at the expense of a slightly larger response. The underlying
+ * {@link Deflater} instances, which hold on to native memory, are reused across responses via a bounded pool whose size
+ * is controlled by <code>poolSize</code>. When <code>skipLocalNetwork</code> is <code>true</code>, then responses to
+ * clients whose remote address is a loopback, link local or site local address are never compressed, because bandwidth
+ * is usually not the bottleneck there. Responses which are too small to benefit from compression are already skipped
+ * via the <code>threshold</code>.
+ *
+ * <h2>Content codings (optional)</h2>
+ * <p>
+ * Since 4.4, this filter is not limited to GZIP. It negotiates the content coding with the client based on the
+ * <code>Accept-Encoding</code> request header, honoring its quality values. The <code>gzip</code> and
+ * <code>deflate</code> codings are built in. Other codings, such as <code>br</code> or <code>zstd</code>, can be
+ * plugged in via a {@link CompressionCodec} registered in
+ * <code>META-INF/services/org.omnifaces.servlet.CompressionCodec</code>. The available codings and the compression
+ * level per mimetype can be configured with the following initialization parameters:
+ * <pre>
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The content codings to use, in order of server preference. Must be a commaseparated string. Defaults to all plugged in codings followed by gzip and deflate.&lt;/description&gt;
+ *     &lt;param-name&gt;encodings&lt;/param-name&gt;
+ *     &lt;param-value&gt;br, gzip, deflate&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * &lt;init-param&gt;
+ *     &lt;description&gt;The compression level per mimetype. Must be a commaseparated string of mimetype=level pairs. Defaults to none.&lt;/description&gt;
+ *     &lt;param-name&gt;compressionLevels&lt;/param-name&gt;
+ *     &lt;param-value&gt;text/html=4, application/json=9&lt;/param-value&gt;
+ * &lt;/init-param&gt;
+ * </pre>
+ * <p>
+ * When the client accepts multiple codings with the same quality value, then the first one in <code>encodings</code>
+ * wins. Mimetypes absent in <code>compressionLevels</code> are compressed at the <code>compressionLevel</code>. A level
+ * beyond the maximum supported by a coding is clamped to that maximum, e.g. 11 is the best for <code>br</code>, but 9
+ * is the best for <code>gzip</code> and <code>deflate</code>.
+ *
  * @author Bauke Scholtz
  * @since 1.1
  * @see GzipHttpServletResponse
@@ -128,6 +210,13 @@ public class GzipResponseFilter extends HttpFilter {
 
 	private static final String INIT_PARAM_THRESHOLD = "threshold";
 	private static final String INIT_PARAM_MIMETYPES = "mimetypes";
+	private static final String INIT_PARAM_COMPRESSION_LEVEL = "compressionLevel";
+	private static final String INIT_PARAM_COMPRESSION_STRATEGY = "compressionStrategy";
+	private static final String INIT_PARAM_BUFFER_SIZE = "bufferSize";
+	private static final String INIT_PARAM_POOL_SIZE = "poolSize";
+	private static final String INIT_PARAM_SKIP_LOCAL_NETWORK = "skipLocalNetwork";
+	private static final String INIT_PARAM_ENCODINGS = "encodings";
+	private static final String INIT_PARAM_COMPRESSION_LEVELS = "compressionLevels";
 
 	private static final int DEFAULT_THRESHOLD = 150;
 	private static final Set<String> DEFAULT_MIMETYPES = unmodifiableSet(
@@ -135,14 +224,34 @@ public class GzipResponseFilter extends HttpFilter {
 		"application/xml", "application/xhtml+xml", "application/javascript", "application/x-javascript", "application/json",
 		"image/svg+xml"
 	);
+	private static final int DEFAULT_BUFFER_SIZE = 512;
+	private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 4;
+	private static final Pattern COMPRESSION_LEVEL = Pattern.compile("-1|[1-9][0-9]?");
+	private static final Pattern IP_ADDRESS_LITERAL = Pattern.compile("[0-9]{1,3}(\\.[0-9]{1,3}){3}|[0-9a-fA-F.]*:[0-9a-fA-F:.]*");
 
 	private static final String ERROR_THRESHOLD = "The 'threshold' init param must be a number between 0 and 9999."
 		+ " Encountered an invalid value of '%s'.";
+	private static final String ERROR_COMPRESSION_LEVEL = "The 'compressionLevel' init param must be a number between 1"
+		+ " and 99, or -1. Encountered an invalid value of '%s'.";
+	private static final String ERROR_COMPRESSION_LEVELS = "The 'compressionLevels' init param must be a commaseparated"
+		+ " string of mimetype=level pairs wherein level is a number between 1 and 99, or -1."
+		+ " Encountered an invalid value of '%s'.";
+	private static final String ERROR_ENCODINGS = "The 'encodings' init param contains an unavailable encoding '%s'."
+		+ " Available encodings are %s.";
+	private static final String ERROR_COMPRESSION_STRATEGY = "The 'compressionStrategy' init param must be one of"
+		+ " 'default', 'filtered' or 'huffman_only'. Encountered an invalid value of '%s'.";
+	private static final String ERROR_BUFFER_SIZE = "The 'bufferSize' init param must be a number between 1 and 999999."
+		+ " Encountered an invalid value of '%s'.";
+	private static final String ERROR_POOL_SIZE = "The 'poolSize' init param must be a number between 1 and 9999."
+		+ " Encountered an invalid value of '%s'.";
 
 	// Vars -----------------------------------------------------------------------------------------------------------
 
 	private Set<String> mimetypes = DEFAULT_MIMETYPES;
 	private int threshold = DEFAULT_THRESHOLD;
+	private boolean skipLocalNetwork;
+	private List<CompressionCodec> codecs;
+	private Map<String, Integer> levels;
 
 	// Actions --------------------------------------------------------------------------------------------------------
 
@@ -167,19 +276,29 @@ public class GzipResponseFilter extends HttpFilter {
 		if (mimetypesParam != null) {
 			mimetypes = new HashSet<>(Arrays.asList(mimetypesParam.split("\\s*,\\s*")));
 		}
+
+		int compressionLevel = parseNumber(INIT_PARAM_COMPRESSION_LEVEL, COMPRESSION_LEVEL.pattern(), ERROR_COMPRESSION_LEVEL, Deflater.DEFAULT_COMPRESSION);
+		int compressionStrategy = parseCompressionStrategy(getInitParameter(INIT_PARAM_COMPRESSION_STRATEGY));
+		int bufferSize = parseNumber(INIT_PARAM_BUFFER_SIZE, "[1-9][0-9]{0,5}", ERROR_BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+		int poolSize = parseNumber(INIT_PARAM_POOL_SIZE, "[1-9][0-9]{0,3}", ERROR_POOL_SIZE, DEFAULT_POOL_SIZE);
+		skipLocalNetwork = parseBoolean(getInitParameter(INIT_PARAM_SKIP_LOCAL_NETWORK));
+		codecs = loadCodecs(getInitParameter(INIT_PARAM_ENCODINGS), compressionStrategy, bufferSize, poolSize);
+		levels = parseCompressionLevels(getInitParameter(INIT_PARAM_COMPRESSION_LEVELS), compressionLevel);
 	}
 
 	/**
-	 * Perform the filtering job. Only if the client accepts GZIP based on the request headers, then wrap the response
-	 * in a {@link GzipHttpServletResponse} and pass it through the filter chain.
+	 * Perform the filtering job. Only if the client accepts one of the available content codings based on the request
+	 * headers, then wrap the response in a {@link GzipHttpServletResponse} and pass it through the filter chain.
 	 */
 	@Override
 	public void doFilter
 		(HttpServletRequest request, HttpServletResponse response, HttpSession session, FilterChain chain)
 			throws ServletException, IOException
 	{
-		if (acceptsGzip(request)) {
-			GzipHttpServletResponse gzipResponse = new GzipHttpServletResponse(response, threshold, mimetypes);
+		CompressionCodec codec = negotiateCodec(request);
+
+		if (codec != null && !(skipLocalNetwork && isLocalNetwork(getRemoteAddr(request)))) {
+			GzipHttpServletResponse gzipResponse = new GzipHttpServletResponse(response, threshold, mimetypes, codec, levels);
 			chain.doFilter(request, gzipResponse);
 			gzipResponse.close(); // Mandatory for the case the threshold limit hasn't been reached.
 		}
@@ -188,21 +307,237 @@ public class GzipResponseFilter extends HttpFilter {
 		}
 	}
 
+	/**
+	 * Destroys all codecs.
+	 */
+	@Override
+	public void destroy() {
+		if (codecs != null) {
+			codecs.forEach(CompressionCodec::destroy);
+		}
+
+		super.destroy();
+	}
+
 	// Helpers --------------------------------------------------------------------------------------------------------
 
 	/**
-	 * Returns whether the given request indicates that the client accepts GZIP encoding.
+	 * Returns the codec with the highest quality value in the <code>Accept-Encoding</code> headers of the given
+	 * request. If there are multiple, then the first one in server preference order wins. The <code>*</code> wildcard
+	 * applies to codings not explicitly mentioned, and <code>x-gzip</code> is treated as an alias of <code>gzip</code>.
 	 * @param request The request to be checked.
-	 * @return <code>true</code> if the client accepts GZIP encoding, otherwise <code>false</code>.
+	 * @return The negotiated codec, or <code>null</code> if the client does not accept any of the available codecs or
+	 * explicitly prefers the <code>identity</code> coding.
+	 */
+	private CompressionCodec negotiateCodec(HttpServletRequest request) {
+		Map<String, Double> qualities = parseAcceptEncoding(request.getHeaders("Accept-Encoding"));
+
+		if (qualities.isEmpty()) {
+			return null;
+		}
+
+		double wildcard = qualities.getOrDefault("*", 0.0);
+		CompressionCodec negotiatedCodec = null;
+		double negotiatedQuality = 0.0;
+
+		for (CompressionCodec codec : codecs) {
+			double quality = qualities.getOrDefault(codec.getEncoding(), wildcard);
+
+			if (quality > negotiatedQuality) {
+				negotiatedCodec = codec;
+				negotiatedQuality = quality;
+			}
+		}
+
+		return (negotiatedQuality < qualities.getOrDefault("identity", 0.0)) ? null : negotiatedCodec;
+	}
+
+	/**
+	 * Parses the given <code>Accept-Encoding</code> header values into a mapping of lowercased coding to quality value.
+	 * An absent or invalid quality value is respectively treated as 1 and 0.
+	 * @param headers The <code>Accept-Encoding</code> header values.
+	 * @return The mapping of lowercased coding to quality value.
+	 */
+	private static Map<String, Double> parseAcceptEncoding(Enumeration<String> headers) {
+		Map<String, Double> qualities = new HashMap<>(4);
+
+		while (headers.hasMoreElements()) {
+			for (String element : headers.nextElement().split(",")) {
+				String[] parts = element.split(";");
+				String coding = parts[0].trim().toLowerCase();
+
+				if (coding.isEmpty()) {
+					continue;
+				}
+
+				double quality = 1.0;
+
+				for (int i = 1; i < parts.length; i++) {
+					String parameter = parts[i].trim();
+
+					if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+						try {
+							quality = Double.parseDouble(parameter.substring(2).trim());
+						}
+						catch (NumberFormatException ignore) {
+							quality = 0.0;
+						}
+					}
+				}
+
+				qualities.put(coding, quality);
+			}
+		}
+
+		if (!qualities.containsKey(DeflaterCompressionCodec.GZIP) && qualities.containsKey("x-gzip")) {
+			qualities.put(DeflaterCompressionCodec.GZIP, qualities.get("x-gzip"));
+		}
+
+		return qualities;
+	}
+
+	/**
+	 * Loads the codecs. When the given encodings are <code>null</code>, then all codecs found by {@link ServiceLoader}
+	 * are loaded followed by the built in <code>gzip</code> and <code>deflate</code> codecs, else only those of the
+	 * given encodings, in the given order. Unused codecs are immediately destroyed.
+	 * @param encodings The commaseparated string of encodings in order of server preference, or <code>null</code>.
+	 * @param strategy The compression strategy of the built in codecs.
+	 * @param bufferSize The size of the compressed data buffer of the built in codecs.
+	 * @param poolSize The maximum amount of idle deflaters of the built in codecs.
+	 * @return The codecs in order of server preference.
+	 * @throws ServletException When the given encodings contain an unavailable encoding.
+	 */
+	private static List<CompressionCodec> loadCodecs(String encodings, int strategy, int bufferSize, int poolSize)
+		throws ServletException
+	{
+		Map<String, CompressionCodec> availableCodecs = new LinkedHashMap<>();
+
+		for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class)) {
+			availableCodecs.putIfAbsent(codec.getEncoding().toLowerCase(), codec);
+		}
+
+		for (String encoding : Arrays.asList(DeflaterCompressionCodec.GZIP, DeflaterCompressionCodec.DEFLATE)) {
+			availableCodecs.putIfAbsent(encoding, new DeflaterCompressionCodec(encoding, strategy, bufferSize, poolSize));
+		}
+
+		if (encodings == null) {
+			return unmodifiableList(new ArrayList<>(availableCodecs.values()));
+		}
+
+		List<CompressionCodec> codecs = new ArrayList<>();
+
+		for (String encoding : encodings.trim().toLowerCase().split("\\s*,\\s*")) {
+			CompressionCodec codec = availableCodecs.get(encoding);
+
+			if (codec == null) {
+				throw new ServletException(format(ERROR_ENCODINGS, encoding, availableCodecs.keySet()));
+			}
+
+			if (!codecs.contains(codec)) {
+				codecs.add(codec);
+			}
+		}
+
+		availableCodecs.values().stream().filter(codec -> !codecs.contains(codec)).forEach(CompressionCodec::destroy);
+		return unmodifiableList(codecs);
+	}
+
+	/**
+	 * Parses the given commaseparated string of mimetype=level pairs into a mapping of mimetype to compression level,
+	 * complemented with the given default compression level for all other compressed mimetypes.
+	 * @param compressionLevels The commaseparated string of mimetype=level pairs, or <code>null</code>.
+	 * @param defaultCompressionLevel The default compression level.
+	 * @return The mapping of mimetype to compression level.
+	 * @throws ServletException When the given string is invalid.
 	 */
-	private static boolean acceptsGzip(HttpServletRequest request) {
-		for (Enumeration<String> e = request.getHeaders("Accept-Encoding"); e.hasMoreElements();) {
-			if (e.nextElement().contains("gzip")) {
-				return true;
+	private Map<String, Integer> parseCompressionLevels(String compressionLevels, int defaultCompressionLevel)
+		throws ServletException
+	{
+		Map<String, Integer> mapping = new HashMap<>();
+
+		for (String mimetype : mimetypes) {
+			mapping.put(mimetype, defaultCompressionLevel);
+		}
+
+		if (compressionLevels != null) {
+			for (String pair : compressionLevels.trim().split("\\s*,\\s*")) {
+				String[] mimetypeAndLevel = pair.split("\\s*=\\s*", 2);
+
+				if (mimetypeAndLevel.length != 2 || !COMPRESSION_LEVEL.matcher(mimetypeAndLevel[1]).matches()) {
+					throw new ServletException(format(ERROR_COMPRESSION_LEVELS, compressionLevels));
+				}
+
+				mapping.put(mimetypeAndLevel[0], Integer.valueOf(mimetypeAndLevel[1]));
 			}
 		}
 
-		return false;
+		return unmodifiableMap(mapping);
+	}
+
+	/**
+	 * Parses the filter init parameter of the given name as a number matching the given pattern.
+	 * @param name The filter init parameter name.
+	 * @param pattern The pattern the value must match.
+	 * @param error The error message format in case the value does not match the pattern.
+	 * @param defaultValue The default value in case the filter init parameter is absent.
+	 * @return The parsed number, or the default value if the filter init parameter is absent.
+	 * @throws ServletException When the value does not match the pattern.
+	 */
+	private int parseNumber(String name, String pattern, String error, int defaultValue) throws ServletException {
+		String param = getInitParameter(name);
+
+		if (param == null) {
+			return defaultValue;
+		}
+
+		if (!param.matches(pattern)) {
+			throw new ServletException(format(error, param));
+		}
+
+		return Integer.parseInt(param);
+	}
+
+	/**
+	 * Parses the given compression strategy name into a {@link Deflater} strategy constant.
+	 * @param strategy The compression strategy name.
+	 * @return The {@link Deflater} strategy constant, or {@link Deflater#DEFAULT_STRATEGY} if the name is absent.
+	 * @throws ServletException When the name is not recognized.
+	 */
+	private static int parseCompressionStrategy(String strategy) throws ServletException {
+		if (strategy == null) {
+			return Deflater.DEFAULT_STRATEGY;
+		}
+
+		switch (strategy.toLowerCase()) {
+			case "default": return Deflater.DEFAULT_STRATEGY;
+			case "filtered": return Deflater.FILTERED;
+			case "huffman_only": return Deflater.HUFFMAN_ONLY;
+			default: throw new ServletException(format(ERROR_COMPRESSION_STRATEGY, strategy));
+		}
+	}
+
+	/**
+	 * Returns whether the given remote address is a loopback, link local or site local IP address. IPv6 unique local
+	 * addresses (<code>fc00::/7</code>) are also considered local. Anything else than an IP address literal, such as
+	 * a host name in a forwarded header, is never considered local, so that this never triggers a DNS lookup.
+	 * @param remoteAddr The remote address to be checked.
+	 * @return <code>true</code> if the given remote address is on a local network, otherwise <code>false</code>.
+	 */
+	private static boolean isLocalNetwork(String remoteAddr) {
+		if (remoteAddr == null || !IP_ADDRESS_LITERAL.matcher(remoteAddr).matches()) {
+			return false;
+		}
+
+		try {
+			InetAddress address = InetAddress.getByName(remoteAddr);
+			return address.isLoopbackAddress()
+				|| address.isLinkLocalAddress()
+				|| address.isSiteLocalAddress()
+				|| (address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc);
+		}
+		catch (UnknownHostException e) {
+			return false;
+		}
 	}
 
 }
\ No newline at end of file
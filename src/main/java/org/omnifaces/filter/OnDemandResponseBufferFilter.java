@@ -12,6 +12,9 @@
  */
 package org.omnifaces.filter;
 
+import static java.lang.String.format;
+import static org.omnifaces.util.Utils.isEmpty;
+
 import java.io.IOException;
 
 import jakarta.servlet.FilterChain;
@@ -47,11 +50,38 @@ public class OnDemandResponseBufferFilter extends HttpFilter {
 	/** The request attribute name under which the buffered response is stored. */
 	public static final String BUFFERED_RESPONSE = "org.omnifaces.servlet.BUFFERED_RESPONSE";
 
+	/**
+	 * The context parameter name to specify the size in bytes above which the buffered response is spilled to a
+	 * temporary file. Defaults to 0, meaning that it is never spilled.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_SPILL_THRESHOLD = "org.omnifaces.RESPONSE_BUFFER_SPILL_THRESHOLD";
+
+	private static final String ERROR_INVALID_SPILL_THRESHOLD =
+		"Context parameter '" + PARAM_NAME_SPILL_THRESHOLD + "' must be a number of bytes, or 0 to never spill."
+			+ " Encountered an invalid value of '%s'.";
+
+	private long spillThreshold;
+
+	@Override
+	public void init() throws ServletException {
+		String spillThresholdParam = getServletContext().getInitParameter(PARAM_NAME_SPILL_THRESHOLD);
+
+		if (!isEmpty(spillThresholdParam)) {
+			try {
+				spillThreshold = Long.parseLong(spillThresholdParam.trim());
+			}
+			catch (NumberFormatException e) {
+				throw new IllegalArgumentException(format(ERROR_INVALID_SPILL_THRESHOLD, spillThresholdParam), e);
+			}
+		}
+	}
+
 	@Override
 	public void doFilter(HttpServletRequest request, HttpServletResponse response, HttpSession session, FilterChain chain) throws ServletException,
 			IOException {
 
-		BufferedHttpServletResponse bufferedResponse = new BufferedHttpServletResponse(response);
+		BufferedHttpServletResponse bufferedResponse = new BufferedHttpServletResponse(response, spillThreshold);
 
 		// By default don't buffer, code has to activate this explicitly.
 		bufferedResponse.setPassThrough(true);
@@ -61,9 +91,14 @@ public class OnDemandResponseBufferFilter extends HttpFilter {
 		try {
 			chain.doFilter(request, bufferedResponse);
 		} finally {
-			if (!bufferedResponse.isPassThrough()) {
-				// TODO: output stream support
-				response.getWriter().write(bufferedResponse.getBufferAsString());
+			try {
+				if (!bufferedResponse.isPassThrough()) {
+					// TODO: output stream support
+					bufferedResponse.writeBuffer(response.getWriter());
+				}
+			}
+			finally {
+				bufferedResponse.release();
 			}
 		}
 
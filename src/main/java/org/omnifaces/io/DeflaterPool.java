@@ -0,0 +1,131 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * A bounded pool of {@link Deflater} instances sharing the same compression level, strategy and wrapping mode. Each
+ * {@link Deflater} holds on to native memory which is only freed on {@link Deflater#end()} or when it's garbage
+ * collected, so recycling them avoids repeated native allocation on every compressed response.
+ * <p>
+ * {@link #acquire()} returns a pooled instance, or a new one when the pool is empty. {@link #release(Deflater)} resets
+ * the instance and returns it to the pool, or ends it when the pool is already full. This pool is thread safe.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see PooledGzipOutputStream
+ */
+public class DeflaterPool {
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final int level;
+	private final int strategy;
+	private final boolean nowrap;
+	private final BlockingQueue<Deflater> pool;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new deflater pool.
+	 * @param level The compression level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, or
+	 * {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param strategy The compression strategy, one of {@link Deflater#DEFAULT_STRATEGY}, {@link Deflater#FILTERED} or
+	 * {@link Deflater#HUFFMAN_ONLY}.
+	 * @param nowrap Whether to omit the ZLIB header and checksum, as required for GZIP.
+	 * @param capacity The maximum amount of idle deflaters to keep in the pool.
+	 * @throws IllegalArgumentException When the level, strategy or capacity is invalid.
+	 */
+	public DeflaterPool(int level, int strategy, boolean nowrap, int capacity) {
+		if ((level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) && level != Deflater.DEFAULT_COMPRESSION) {
+			throw new IllegalArgumentException("level");
+		}
+
+		if (strategy != Deflater.DEFAULT_STRATEGY && strategy != Deflater.FILTERED && strategy != Deflater.HUFFMAN_ONLY) {
+			throw new IllegalArgumentException("strategy");
+		}
+
+		this.level = level;
+		this.strategy = strategy;
+		this.nowrap = nowrap;
+		this.pool = new ArrayBlockingQueue<>(capacity);
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns an idle deflater from the pool, or a new one if the pool is empty.
+	 * @return An idle deflater from the pool, or a new one if the pool is empty.
+	 */
+	public Deflater acquire() {
+		Deflater deflater = pool.poll();
+
+		if (deflater == null) {
+			deflater = new Deflater(level, nowrap);
+			deflater.setStrategy(strategy);
+		}
+
+		return deflater;
+	}
+
+	/**
+	 * Resets the given deflater and returns it to the pool. If the pool is full, then the deflater is ended instead.
+	 * @param deflater The deflater to be released, which must have been obtained by {@link #acquire()}.
+	 */
+	public void release(Deflater deflater) {
+		deflater.reset();
+
+		if (!pool.offer(deflater)) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Ends all idle deflaters in the pool. Deflaters which are released afterwards are still pooled.
+	 */
+	public void clear() {
+		for (Deflater deflater = pool.poll(); deflater != null; deflater = pool.poll()) {
+			deflater.end();
+		}
+	}
+
+	// Getters --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the compression level of deflaters in this pool.
+	 * @return The compression level of deflaters in this pool.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the compression strategy of deflaters in this pool.
+	 * @return The compression strategy of deflaters in this pool.
+	 */
+	public int getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * Returns whether deflaters in this pool omit the ZLIB header and checksum.
+	 * @return Whether deflaters in this pool omit the ZLIB header and checksum.
+	 */
+	public boolean isNowrap() {
+		return nowrap;
+	}
+
+}
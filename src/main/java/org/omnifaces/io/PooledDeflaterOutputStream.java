@@ -0,0 +1,93 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * This output stream writes compressed data, like {@link DeflaterOutputStream}, but with a
+ * {@link java.util.zip.Deflater} borrowed from the given {@link DeflaterPool}. The deflater is returned to the pool
+ * once this stream is closed. When the pool creates deflaters in "nowrap" mode, then this writes raw deflate data,
+ * else this writes ZLIB data, which is what the HTTP <code>deflate</code> content coding represents.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see DeflaterPool
+ * @see PooledGzipOutputStream
+ */
+public class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	private static final String ERROR_CLOSED = "Stream is already closed.";
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final DeflaterPool pool;
+	private boolean released;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new pooled deflater output stream.
+	 * @param output The output stream to write the compressed data to.
+	 * @param pool The pool to borrow the deflater from.
+	 * @param bufferSize The size of the compressed data buffer.
+	 */
+	public PooledDeflaterOutputStream(OutputStream output, DeflaterPool pool, int bufferSize) {
+		super(output, pool.acquire(), bufferSize);
+		this.pool = pool;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		checkReleased();
+		super.write(bytes, offset, length);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		checkReleased();
+		super.finish();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (released) {
+			return;
+		}
+
+		try {
+			super.close();
+		}
+		finally {
+			released = true;
+			pool.release(def);
+		}
+	}
+
+	/**
+	 * Check if the deflater has already been returned to the pool and if so, then throw IO exception.
+	 * @throws IOException When the deflater has already been returned to the pool.
+	 */
+	protected void checkReleased() throws IOException {
+		if (released) {
+			throw new IOException(ERROR_CLOSED);
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This output stream writes GZIP compressed data, like {@link GZIPOutputStream}, but with a
+ * {@link java.util.zip.Deflater} borrowed from the given {@link DeflaterPool}. The deflater is returned to the pool
+ * once this stream is closed. The pool must create deflaters in "nowrap" mode.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see DeflaterPool
+ */
+public class PooledGzipOutputStream extends PooledDeflaterOutputStream {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	private static final byte[] HEADER = {
+		(byte) 0x1f, (byte) 0x8b, // Magic number.
+		8, // Compression method: deflate.
+		0, // Flags: none.
+		0, 0, 0, 0, // Modification time: none.
+		0, // Extra flags: none.
+		(byte) 0xff // Operating system: unknown.
+	};
+
+	private static final int TRAILER_SIZE = 8;
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final CRC32 crc = new CRC32();
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new pooled GZIP output stream and write the GZIP header to the given output stream.
+	 * @param output The output stream to write the compressed data to.
+	 * @param pool The pool to borrow the deflater from.
+	 * @param bufferSize The size of the compressed data buffer.
+	 * @throws IOException When an I/O error occurs while writing the GZIP header.
+	 * @throws IllegalArgumentException When the given pool does not create deflaters in "nowrap" mode.
+	 */
+	public PooledGzipOutputStream(OutputStream output, DeflaterPool pool, int bufferSize) throws IOException {
+		super(output, checkNowrap(pool), bufferSize);
+		output.write(HEADER);
+	}
+
+	private static DeflaterPool checkNowrap(DeflaterPool pool) {
+		if (!pool.isNowrap()) {
+			throw new IllegalArgumentException("pool");
+		}
+
+		return pool;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		super.write(bytes, offset, length);
+		crc.update(bytes, offset, length);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		checkReleased();
+
+		if (!def.finished()) {
+			def.finish();
+
+			while (!def.finished()) {
+				deflate();
+			}
+
+			writeTrailer();
+		}
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private void writeTrailer() throws IOException {
+		byte[] trailer = new byte[TRAILER_SIZE];
+		writeInt(trailer, 0, (int) crc.getValue());
+		writeInt(trailer, 4, (int) def.getBytesRead()); // ISIZE is the uncompressed size modulo 2^32.
+		out.write(trailer);
+	}
+
+	private static void writeInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) (value >> 8);
+		bytes[offset + 2] = (byte) (value >> 16);
+		bytes[offset + 3] = (byte) (value >> 24);
+	}
+
+}
@@ -12,7 +12,6 @@
  */
 package org.omnifaces.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -36,7 +35,7 @@ public class ResettableBufferedOutputStream extends OutputStream implements Rese
 	// Variables ------------------------------------------------------------------------------------------------------
 
 	private OutputStream output;
-	private ByteArrayOutputStream buffer;
+	private SegmentedBufferOutputStream buffer;
 	private int thresholdBufferSize;
 	private int writtenBytes;
 	private boolean closed;
@@ -63,7 +62,7 @@ public class ResettableBufferedOutputStream extends OutputStream implements Rese
 	public ResettableBufferedOutputStream(OutputStream output, int thresholdBufferSize) {
 		this.output = output;
 		this.thresholdBufferSize = thresholdBufferSize;
-		buffer = new ByteArrayOutputStream(thresholdBufferSize);
+		buffer = new SegmentedBufferOutputStream();
 	}
 
 	// Actions --------------------------------------------------------------------------------------------------------
@@ -107,7 +106,8 @@ public class ResettableBufferedOutputStream extends OutputStream implements Rese
 			output = createOutputStream(thresholdBufferSizeExceeded);
 		}
 
-		output.write(buffer.toByteArray());
+		buffer.writeTo(output);
+		buffer.release();
 		buffer = null;
 	}
 
@@ -135,7 +135,7 @@ public class ResettableBufferedOutputStream extends OutputStream implements Rese
 	@Override
 	public void reset() {
 		if (isResettable()) {
-			buffer = new ByteArrayOutputStream(thresholdBufferSize);
+			buffer.reset();
 			writtenBytes = 0;
 		}
 	}
@@ -0,0 +1,369 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.io;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This output stream buffers everything written to it in fixed size segments which are recycled from and to a global
+ * bounded pool, so that buffering large responses doesn't need to repeatedly grow and copy a single heap array, and
+ * doesn't produce new garbage on every request. When a spill threshold is specified and the buffered size exceeds it,
+ * then the buffer will be spilled to a temporary file which is automatically deleted on {@link #release()}.
+ * <p>
+ * The buffered content can be written to another output stream via {@link #writeTo(OutputStream)} or be read via
+ * {@link #toInputStream()} without copying it into a single array first.
+ * <p>
+ * Invoke {@link #release()} when the buffered content is not needed anymore, so that the segments are returned to the
+ * pool and any temporary file is deleted. When you forget this, then the segments will just be garbage collected.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see ResettableBufferedOutputStream
+ */
+public class SegmentedBufferOutputStream extends OutputStream {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	/** The size of a single segment. */
+	public static final int SEGMENT_SIZE = 8192;
+
+	private static final int MAX_POOLED_SEGMENTS = 1024;
+	private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+	private static final String SPILL_FILE_PREFIX = "omnifaces-buffer-";
+	private static final String ERROR_TOO_LARGE = "Buffered content is too large for a byte array: %d bytes.";
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final long spillThreshold;
+	private final List<byte[]> segments = new ArrayList<>();
+	private int segmentPosition = SEGMENT_SIZE;
+	private long size;
+	private FileChannel spill;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new segmented buffer output stream which buffers everything in memory.
+	 */
+	public SegmentedBufferOutputStream() {
+		this(0);
+	}
+
+	/**
+	 * Construct a new segmented buffer output stream which spills to a temporary file once the buffered size exceeds
+	 * the given threshold.
+	 * @param spillThreshold The spill threshold in bytes. When this is 0 or less, then it will never spill.
+	 */
+	public SegmentedBufferOutputStream(long spillThreshold) {
+		this.spillThreshold = spillThreshold;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	@Override
+	public void write(int b) throws IOException {
+		if (spill != null || (spillThreshold > 0 && size + 1 > spillThreshold)) {
+			write(new byte[] { (byte) b }, 0, 1); // Spill file I/O per byte costs way more than this array anyway.
+			return;
+		}
+
+		currentSegment()[segmentPosition++] = (byte) b;
+		size++;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		if (spill == null && spillThreshold > 0 && size + length > spillThreshold) {
+			spill();
+		}
+
+		if (spill != null) {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+
+			while (buffer.hasRemaining()) {
+				spill.write(buffer);
+			}
+		}
+		else {
+			for (int remaining = length; remaining > 0;) {
+				byte[] segment = currentSegment();
+				int chunk = Math.min(remaining, SEGMENT_SIZE - segmentPosition);
+				System.arraycopy(bytes, offset + length - remaining, segment, segmentPosition, chunk);
+				segmentPosition += chunk;
+				remaining -= chunk;
+			}
+		}
+
+		size += length;
+	}
+
+	/**
+	 * Write the buffered content to the given output stream without copying it into a single array first.
+	 * @param output The output stream to write the buffered content to.
+	 * @throws IOException When an I/O error occurs.
+	 */
+	public void writeTo(OutputStream output) throws IOException {
+		if (spill != null) {
+			byte[] segment = acquireSegment();
+
+			try {
+				ByteBuffer buffer = ByteBuffer.wrap(segment);
+
+				for (long position = 0; position < size;) {
+					buffer.clear();
+					int read = spill.read(buffer, position);
+					output.write(segment, 0, read);
+					position += read;
+				}
+			}
+			finally {
+				releaseSegment(segment);
+			}
+		}
+		else {
+			int last = segments.size() - 1;
+
+			for (int i = 0; i <= last; i++) {
+				output.write(segments.get(i), 0, (i == last) ? segmentPosition : SEGMENT_SIZE);
+			}
+		}
+	}
+
+	/**
+	 * Returns an input stream which reads the buffered content. The input stream is only valid as long as this buffer
+	 * is not reset nor released.
+	 * @return An input stream which reads the buffered content.
+	 */
+	public InputStream toInputStream() {
+		return new BufferInputStream();
+	}
+
+	/**
+	 * Returns the buffered content as a single byte array. This is a copy, so prefer {@link #writeTo(OutputStream)}
+	 * or {@link #toInputStream()} for large content.
+	 * @return The buffered content as a single byte array.
+	 * @throws IllegalStateException When the buffered content is too large for a byte array.
+	 */
+	public byte[] toByteArray() {
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException(String.format(ERROR_TOO_LARGE, size));
+		}
+
+		byte[] bytes = new byte[(int) size];
+
+		try (InputStream input = toInputStream()) {
+			int offset = 0;
+
+			while (offset < bytes.length) {
+				offset += input.read(bytes, offset, bytes.length - offset);
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Returns the size of the buffered content.
+	 * @return The size of the buffered content.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the buffered content has been spilled to a temporary file.
+	 * @return <code>true</code> if the buffered content has been spilled to a temporary file.
+	 */
+	public boolean isSpilled() {
+		return spill != null;
+	}
+
+	/**
+	 * Discard the buffered content, so that this buffer can be reused.
+	 */
+	public void reset() {
+		release();
+	}
+
+	/**
+	 * Discard the buffered content, return all segments to the pool and delete any temporary file.
+	 */
+	public void release() {
+		for (byte[] segment : segments) {
+			releaseSegment(segment);
+		}
+
+		segments.clear();
+		segmentPosition = SEGMENT_SIZE;
+		size = 0;
+
+		if (spill != null) {
+			try {
+				spill.close();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			finally {
+				spill = null;
+			}
+		}
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private void spill() throws IOException {
+		FileChannel channel = FileChannel.open(Files.createTempFile(SPILL_FILE_PREFIX, null), READ, WRITE, DELETE_ON_CLOSE);
+
+		try {
+			long bufferedSize = size;
+			writeTo(new ChannelOutputStream(channel));
+			release();
+			size = bufferedSize;
+			spill = channel;
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private byte[] currentSegment() {
+		if (segmentPosition == SEGMENT_SIZE) {
+			segments.add(acquireSegment());
+			segmentPosition = 0;
+		}
+
+		return segments.get(segments.size() - 1);
+	}
+
+	private static byte[] acquireSegment() {
+		byte[] segment = POOL.poll();
+
+		if (segment == null) {
+			return new byte[SEGMENT_SIZE];
+		}
+
+		POOL_SIZE.decrementAndGet();
+		return segment;
+	}
+
+	private static void releaseSegment(byte[] segment) {
+		if (POOL_SIZE.incrementAndGet() <= MAX_POOLED_SEGMENTS) {
+			POOL.offer(segment);
+		}
+		else {
+			POOL_SIZE.decrementAndGet();
+		}
+	}
+
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Writes to a file channel.
+	 */
+	private static final class ChannelOutputStream extends OutputStream {
+
+		private final FileChannel channel;
+
+		private ChannelOutputStream(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Reads the buffered content, either from the segments or from the spill file.
+	 */
+	private final class BufferInputStream extends InputStream {
+
+		private long position;
+
+		@Override
+		public int read() throws IOException {
+			if (position >= size) {
+				return -1;
+			}
+
+			if (spill != null) {
+				byte[] single = new byte[1]; // The positional file read outweighs this array.
+				return (read(single, 0, 1) == -1) ? -1 : (single[0] & 0xff);
+			}
+
+			int b = segments.get((int) (position / SEGMENT_SIZE))[(int) (position % SEGMENT_SIZE)] & 0xff;
+			position++;
+			return b;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (position >= size) {
+				return -1;
+			}
+
+			int read;
+
+			if (spill != null) {
+				read = spill.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, size - position)), position);
+			}
+			else {
+				int segment = (int) (position / SEGMENT_SIZE);
+				int segmentOffset = (int) (position % SEGMENT_SIZE);
+				read = (int) Math.min(Math.min(length, SEGMENT_SIZE - segmentOffset), size - position);
+				System.arraycopy(segments.get(segment), segmentOffset, bytes, offset, read);
+			}
+
+			position += read;
+			return read;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, size - position);
+		}
+	}
+
+}
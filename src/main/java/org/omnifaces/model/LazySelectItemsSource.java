@@ -0,0 +1,85 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.omnifaces.converter.ListConverter;
+import org.omnifaces.converter.ListIndexConverter;
+
+/**
+ * <p>
+ * Source of selectable items which are too many to be materialized in memory, such as those of an autocomplete input
+ * backed by a database table with millions of rows. This can be passed to {@link ListConverter} and
+ * {@link ListIndexConverter} instead of a {@link java.util.List}, so that they resolve submitted values through a keyed
+ * or positional lookup instead of iterating over all items.
+ * <pre>
+ * &lt;p:autoComplete value="#{bean.entity}" completeMethod="#{bean.complete}" var="entity" itemValue="#{entity}" itemLabel="#{entity.name}"&gt;
+ *     &lt;o:converter converterId="omnifaces.ListConverter" source="#{bean.entitySource}" /&gt;
+ * &lt;/p:autoComplete&gt;
+ * </pre>
+ * <p>
+ * Implementations are typically backed by a service or DAO. The items must be consistently ordered across requests,
+ * else the positions used by {@link ListIndexConverter} won't match.
+ *
+ * @param <T> The item type.
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see ListConverter
+ * @see ListIndexConverter
+ */
+public interface LazySelectItemsSource<T> {
+
+	/**
+	 * Returns the item identified by the given key, or <code>null</code> if there is none. The key is the string
+	 * representation of the item as produced by the converter, which is by default its <code>toString()</code>.
+	 * @param key The key of the item.
+	 * @return The item identified by the given key, or <code>null</code> if there is none.
+	 */
+	T findByKey(String key);
+
+	/**
+	 * Returns at most the given amount of items starting at the given position, or an empty list if there are none.
+	 * @param offset The position of the first item.
+	 * @param size The maximum amount of items.
+	 * @return At most the given amount of items starting at the given position.
+	 */
+	List<T> page(int offset, int size);
+
+	/**
+	 * Returns the position of the given item, or <code>-1</code> if there is none. The default implementation pages
+	 * through all items until the item is found, so implementations are advised to override this with a more efficient
+	 * lookup, e.g. by counting the items which are ordered before the given item.
+	 * @param item The item.
+	 * @return The position of the given item, or <code>-1</code> if there is none.
+	 */
+	default int indexOf(Object item) {
+		int pageSize = 100;
+
+		for (int offset = 0;; offset += pageSize) {
+			List<T> page = page(offset, pageSize);
+
+			for (int i = 0; i < page.size(); i++) {
+				if (Objects.equals(page.get(i), item)) {
+					return offset + i;
+				}
+			}
+
+			if (page.size() < pageSize) {
+				return -1;
+			}
+		}
+	}
+
+}
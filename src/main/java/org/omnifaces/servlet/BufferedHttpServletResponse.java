@@ -12,18 +12,28 @@
  */
 package org.omnifaces.servlet;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.omnifaces.io.SegmentedBufferOutputStream;
+
 /**
  * This HTTP servlet response implementation buffers the entire response body. The buffered response body is available
  * as a byte array via the {@link #getBuffer()} method. Note that the buffered response writer will use same character
  * encoding as is been set on the response supplied to the constructor and that this way any
  * {@link ServletResponse#setCharacterEncoding(String)} calls on the included JSP/Servlet resource have thus no effect.
+ * <p>
+ * Since 4.4, the response body is buffered in pooled segments via {@link SegmentedBufferOutputStream}, optionally
+ * spilling to a temporary file when it exceeds a given threshold. Prefer {@link #writeBuffer(OutputStream)} or
+ * {@link #writeBuffer(Writer)} over {@link #getBuffer()} for large responses, and invoke {@link #release()} when the
+ * buffered response is not needed anymore.
  *
  * @author Bauke Scholtz
  * @since 1.1
@@ -32,7 +42,7 @@ public class BufferedHttpServletResponse extends HttpServletResponseOutputWrappe
 
 	// Properties -----------------------------------------------------------------------------------------------------
 
-	private final ByteArrayOutputStream buffer;
+	private final SegmentedBufferOutputStream buffer;
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -41,8 +51,19 @@ public class BufferedHttpServletResponse extends HttpServletResponseOutputWrappe
 	 * @param response The response to be wrapped.
 	 */
 	public BufferedHttpServletResponse(HttpServletResponse response) {
+		this(response, 0);
+	}
+
+	/**
+	 * Construct a buffered HTTP servlet response which wraps the given response and spills the buffered response to a
+	 * temporary file once it exceeds the given threshold.
+	 * @param response The response to be wrapped.
+	 * @param spillThreshold The spill threshold in bytes. When this is 0 or less, then it will never spill.
+	 * @since 4.4
+	 */
+	public BufferedHttpServletResponse(HttpServletResponse response, long spillThreshold) {
 		super(response);
-		buffer = new ByteArrayOutputStream(response.getBufferSize());
+		buffer = new SegmentedBufferOutputStream(spillThreshold);
 	}
 
 	// Actions --------------------------------------------------------------------------------------------------------
@@ -72,4 +93,43 @@ public class BufferedHttpServletResponse extends HttpServletResponseOutputWrappe
 		return new String(getBuffer(), getCharacterEncoding());
 	}
 
+	/**
+	 * Flushes and writes the buffered response to the given output stream without copying it into a byte array first.
+	 * @param output The output stream to write the buffered response to.
+	 * @throws IOException When an I/O error occurs.
+	 * @since 4.4
+	 */
+	public void writeBuffer(OutputStream output) throws IOException {
+		close();
+		buffer.writeTo(output);
+	}
+
+	/**
+	 * Flushes and writes the buffered response to the given writer without copying it into a string first. It is
+	 * decoded using the character encoding provided by {@link #getCharacterEncoding()}.
+	 * @param writer The writer to write the buffered response to.
+	 * @throws IOException When an I/O error occurs.
+	 * @since 4.4
+	 */
+	public void writeBuffer(Writer writer) throws IOException {
+		close();
+
+		try (InputStream input = buffer.toInputStream()) {
+			Reader reader = new InputStreamReader(input, getCharacterEncoding());
+			char[] chars = new char[SegmentedBufferOutputStream.SEGMENT_SIZE];
+
+			for (int read = reader.read(chars); read != -1; read = reader.read(chars)) {
+				writer.write(chars, 0, read);
+			}
+		}
+	}
+
+	/**
+	 * Releases the buffered response. After this, the buffered response is not available anymore.
+	 * @since 4.4
+	 */
+	public void release() {
+		buffer.release();
+	}
+
 }
\ No newline at end of file
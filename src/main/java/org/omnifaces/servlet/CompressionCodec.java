@@ -0,0 +1,62 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.omnifaces.filter.GzipResponseFilter;
+
+/**
+ * SPI for an HTTP content coding which can be applied by {@link GzipResponseFilter} on the response body, such as
+ * <code>gzip</code>, <code>deflate</code>, <code>br</code> or <code>zstd</code>.
+ * <p>
+ * The <code>gzip</code> and <code>deflate</code> codecs are built in, see {@link DeflaterCompressionCodec}. Additional
+ * codecs can be made available by registering their fully qualified class name in a
+ * <code>META-INF/services/org.omnifaces.servlet.CompressionCodec</code> file in the classpath, conform the
+ * {@link java.util.ServiceLoader} contract. Implementations must be thread safe.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see GzipResponseFilter
+ * @see GzipHttpServletResponse
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Returns the lowercased content coding name as it appears in the <code>Accept-Encoding</code> and
+	 * <code>Content-Encoding</code> headers, e.g. <code>gzip</code> or <code>br</code>.
+	 * @return The content coding name.
+	 */
+	String getEncoding();
+
+	/**
+	 * Returns an output stream which compresses everything written to it into the given output stream. Closing the
+	 * returned output stream must finish the compressed data and close the given output stream.
+	 * @param output The output stream to write the compressed data to.
+	 * @param level The desired compression level, or <code>-1</code> for the codec's default level. Codecs must clamp
+	 * a level beyond their supported range to the nearest supported level.
+	 * @return An output stream which compresses everything written to it into the given output stream.
+	 * @throws IOException When an I/O error occurs.
+	 */
+	OutputStream createOutputStream(OutputStream output, int level) throws IOException;
+
+	/**
+	 * Releases any resources held by this codec. This is invoked when the {@link GzipResponseFilter} is destroyed. The
+	 * default implementation does nothing.
+	 */
+	default void destroy() {
+		// NOOP.
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.servlet;
+
+import static java.lang.Math.min;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.Deflater;
+
+import org.omnifaces.io.DeflaterPool;
+import org.omnifaces.io.PooledDeflaterOutputStream;
+import org.omnifaces.io.PooledGzipOutputStream;
+
+/**
+ * The built in {@link CompressionCodec} for the <code>gzip</code> and <code>deflate</code> content codings, based on
+ * {@link Deflater}. The deflaters are pooled per compression level by a {@link DeflaterPool}.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see PooledGzipOutputStream
+ * @see PooledDeflaterOutputStream
+ */
+public class DeflaterCompressionCodec implements CompressionCodec {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	/** The <code>gzip</code> content coding. */
+	public static final String GZIP = "gzip";
+
+	/** The <code>deflate</code> content coding. */
+	public static final String DEFLATE = "deflate";
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final String encoding;
+	private final int strategy;
+	private final int bufferSize;
+	private final int poolSize;
+	private final ConcurrentMap<Integer, DeflaterPool> pools = new ConcurrentHashMap<>(4);
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new deflater based compression codec.
+	 * @param encoding The content coding, must be either {@link #GZIP} or {@link #DEFLATE}.
+	 * @param strategy The compression strategy, one of {@link Deflater#DEFAULT_STRATEGY}, {@link Deflater#FILTERED} or
+	 * {@link Deflater#HUFFMAN_ONLY}.
+	 * @param bufferSize The size of the compressed data buffer.
+	 * @param poolSize The maximum amount of idle deflaters to keep per compression level.
+	 * @throws IllegalArgumentException When the content coding is not supported.
+	 */
+	public DeflaterCompressionCodec(String encoding, int strategy, int bufferSize, int poolSize) {
+		if (!GZIP.equals(encoding) && !DEFLATE.equals(encoding)) {
+			throw new IllegalArgumentException("encoding");
+		}
+
+		this.encoding = encoding;
+		this.strategy = strategy;
+		this.bufferSize = bufferSize;
+		this.poolSize = poolSize;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	@Override
+	public String getEncoding() {
+		return encoding;
+	}
+
+	@Override
+	public OutputStream createOutputStream(OutputStream output, int level) throws IOException {
+		int deflaterLevel = (level < 0) ? Deflater.DEFAULT_COMPRESSION : min(level, Deflater.BEST_COMPRESSION);
+		DeflaterPool pool = pools.computeIfAbsent(deflaterLevel, k -> new DeflaterPool(k, strategy, GZIP.equals(encoding), poolSize));
+		return GZIP.equals(encoding)
+			? new PooledGzipOutputStream(output, pool, bufferSize)
+			: new PooledDeflaterOutputStream(output, pool, bufferSize);
+	}
+
+	/**
+	 * Ends all pooled deflaters.
+	 */
+	@Override
+	public void destroy() {
+		pools.values().forEach(DeflaterPool::clear);
+	}
+
+}
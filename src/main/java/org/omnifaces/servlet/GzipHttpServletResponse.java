@@ -16,6 +16,7 @@ import static org.omnifaces.util.Utils.isOneOf;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPOutputStream;
@@ -27,6 +28,9 @@ import org.omnifaces.io.ResettableBufferedOutputStream;
 /**
  * This HTTP servlet response wrapper will GZIP the response when the given threshold has exceeded and the response
  * content type matches one of the given mimetypes.
+ * <p>
+ * Since 4.4, it can also compress with another {@link CompressionCodec}, such as <code>deflate</code> or
+ * <code>br</code>, at a compression level depending on the mimetype.
  *
  * @author Bauke Scholtz
  * @since 1.1
@@ -42,6 +46,8 @@ public class GzipHttpServletResponse extends HttpServletResponseOutputWrapper {
 
 	private int threshold;
 	private Set<String> mimetypes;
+	private CompressionCodec codec;
+	private Map<String, Integer> levels;
 	private long contentLength;
 	private String vary;
 	private boolean noGzip;
@@ -62,6 +68,25 @@ public class GzipHttpServletResponse extends HttpServletResponseOutputWrapper {
 		this.mimetypes = mimetypes;
 	}
 
+	/**
+	 * Construct a new compressing HTTP servlet response based on the given wrapped response, threshold, mimetypes and
+	 * codec.
+	 * @param wrapped The wrapped response.
+	 * @param threshold The compression buffer threshold.
+	 * @param mimetypes The mimetypes which needs to be compressed.
+	 * @param codec The codec to compress with.
+	 * @param levels The compression level per mimetype. Mimetypes absent in this map are compressed at the codec's
+	 * default level.
+	 * @since 4.4
+	 */
+	public GzipHttpServletResponse(HttpServletResponse wrapped, int threshold, Set<String> mimetypes,
+		CompressionCodec codec, Map<String, Integer> levels)
+	{
+		this(wrapped, threshold, mimetypes);
+		this.codec = codec;
+		this.levels = levels;
+	}
+
 	// Actions --------------------------------------------------------------------------------------------------------
 
 	@Override
@@ -181,10 +206,15 @@ public class GzipHttpServletResponse extends HttpServletResponseOutputWrapper {
 			if (doGzip && !noGzip && (closing || !isCommitted())) {
 				String contentType = getContentType();
 
-				if (contentType != null && mimetypes.contains(contentType.split(";", 2)[0])) {
-					addHeader("Content-Encoding", "gzip");
+				String mimetype = (contentType != null) ? contentType.split(";", 2)[0] : null;
+
+				if (mimetype != null && mimetypes.contains(mimetype)) {
+					addHeader("Content-Encoding", (codec != null) ? codec.getEncoding() : "gzip");
 					setHeader("Vary", (!isOneOf(vary, null, "*") ? (vary + ",") : "") + "Accept-Encoding");
-					return new GZIPOutputStream(originalResponse.getOutputStream());
+					OutputStream output = originalResponse.getOutputStream();
+					return (codec != null)
+						? codec.createOutputStream(output, levels.getOrDefault(mimetype, -1))
+						: new GZIPOutputStream(output);
 				}
 			}
 
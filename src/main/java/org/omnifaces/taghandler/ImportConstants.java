@@ -15,7 +15,6 @@ package org.omnifaces.taghandler;
 import static java.lang.Math.max;
 import static java.lang.String.format;
 import static org.omnifaces.taghandler.ImportFunctions.getClassLoader;
-import static org.omnifaces.taghandler.ImportFunctions.toClass;
 import static org.omnifaces.util.Facelets.getStringLiteral;
 import static org.omnifaces.util.Utils.isOneOf;
 
@@ -27,7 +26,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.view.facelets.FaceletContext;
@@ -35,6 +33,7 @@ import jakarta.faces.view.facelets.TagAttribute;
 import jakarta.faces.view.facelets.TagConfig;
 import jakarta.faces.view.facelets.TagHandler;
 
+import org.omnifaces.taghandler.ImportFunctions.ResolvedType;
 import org.omnifaces.util.MapWrapper;
 import org.omnifaces.util.Utils;
 
@@ -95,7 +94,12 @@ public class ImportConstants extends TagHandler {
 
 	// Constants ------------------------------------------------------------------------------------------------------
 
-	private static final Map<String, Map<String, Object>> CONSTANTS_CACHE = new ConcurrentHashMap<>();
+	private static final ClassValue<Map<String, Object>> CONSTANTS_CACHE = new ClassValue<>() { // Holds JDK types only, so it can't pin our class loader.
+		@Override
+		protected Map<String, Object> computeValue(Class<?> type) {
+			return collectConstants(type);
+		}
+	};
 
 	private static final String ERROR_FIELD_ACCESS = "Cannot access constant field '%s' of type '%s'.";
 	private static final String ERROR_INVALID_CONSTANT = "Type '%s' does not have the constant '%s'.";
@@ -105,6 +109,7 @@ public class ImportConstants extends TagHandler {
 	private String varValue;
 	private TagAttribute typeAttribute;
 	private TagAttribute loaderAttribute;
+	private volatile ResolvedType resolvedType;
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -124,19 +129,17 @@ public class ImportConstants extends TagHandler {
 	/**
 	 * First obtain the constants of the class by its fully qualified name as specified in the <code>type</code>
 	 * attribute from the cache. If it hasn't been collected yet and is thus not present in the cache, then collect
-	 * them and store in cache. Finally set the constants in the request scope by the simple name of the type, or by the
-	 * name as specified in the <code>var</code> attribute, if any.
+	 * them and store in cache. The cache is associated with the class itself, so that it doesn't prevent the class from
+	 * being unloaded on redeploy. Finally set the constants in the request scope by the simple name of the type, or by
+	 * the name as specified in the <code>var</code> attribute, if any.
 	 */
 	@Override
 	public void apply(FaceletContext context, UIComponent parent) throws IOException {
 		String type = typeAttribute.getValue(context);
-		Map<String, Object> constants = CONSTANTS_CACHE.get(type);
-
-		if (constants == null) {
-			ClassLoader loader = getClassLoader(context, loaderAttribute);
-			constants = collectConstants(type, loader);
-			CONSTANTS_CACHE.put(type, constants);
-		}
+		ClassLoader loader = getClassLoader(context, loaderAttribute);
+		ResolvedType resolved = ResolvedType.resolve(resolvedType, type, loader);
+		resolvedType = resolved;
+		Map<String, Object> constants = new ConstantsMap(CONSTANTS_CACHE.get(resolved.getType()), type);
 
 		String var = varValue;
 
@@ -153,26 +156,26 @@ public class ImportConstants extends TagHandler {
 
 	/**
 	 * Collect constants of the given type. That are, all public static final fields of the given type.
-	 * @param type The fully qualified name of the type to collect constants for.
-	 * @return Constants of the given type.
+	 * @param type The type to collect constants for.
+	 * @return Constants of the given type, in an unmodifiable map.
 	 */
-	private static Map<String, Object> collectConstants(String type, ClassLoader loader) {
+	private static Map<String, Object> collectConstants(Class<?> type) {
 		Map<String, Object> constants = new LinkedHashMap<>();
 
-		for (Class<?> declaredType : getDeclaredTypes(toClass(type, loader))) {
+		for (Class<?> declaredType : getDeclaredTypes(type)) {
 			for (Field field : declaredType.getDeclaredFields()) {
 				if (isPublicStaticFinal(field)) {
 					try {
 						constants.putIfAbsent(field.getName(), field.get(null));
 					}
 					catch (Exception e) {
-						throw new IllegalArgumentException(format(ERROR_FIELD_ACCESS, type, field.getName()), e);
+						throw new IllegalArgumentException(format(ERROR_FIELD_ACCESS, type.getName(), field.getName()), e);
 					}
 				}
 			}
 		}
 
-		return new ConstantsMap(constants, type);
+		return Collections.unmodifiableMap(constants);
 	}
 
 	/**
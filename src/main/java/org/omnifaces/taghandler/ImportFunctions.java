@@ -91,7 +91,12 @@ public class ImportFunctions extends TagHandler {
 
 	private static final Logger logger = Logger.getLogger(ImportFunctions.class.getName());
 
-	private static final Map<String, Method> FUNCTIONS_CACHE = new ConcurrentHashMap<>();
+	private static final ClassValue<Map<String, Method>> FUNCTIONS_CACHE = new ClassValue<>() {
+		@Override
+		protected Map<String, Method> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
 	private static final String ERROR_MISSING_CLASS = "Cannot find type '%s' in classpath.";
 	private static final String ERROR_INVALID_FUNCTION = "Type '%s' does not have the function '%s'.";
 
@@ -100,6 +105,7 @@ public class ImportFunctions extends TagHandler {
 	private String varValue;
 	private TagAttribute typeAttribute;
 	private TagAttribute loaderAttribute;
+	private volatile ResolvedType resolvedType;
 
 	// Constructors ---------------------------------------------------------------------------------------------------
 
@@ -125,8 +131,10 @@ public class ImportFunctions extends TagHandler {
 		String type = typeAttribute.getValue(context);
 		String var = (varValue != null) ? varValue : type.substring(type.lastIndexOf('.') + 1);
 		ClassLoader loader = getClassLoader(context, loaderAttribute);
+		ResolvedType resolved = ResolvedType.resolve(resolvedType, type, loader);
+		resolvedType = resolved;
 		FunctionMapper originalFunctionMapper = context.getFunctionMapper();
-		context.setFunctionMapper(new ImportFunctionsMapper(originalFunctionMapper, var, toClass(type, loader)));
+		context.setFunctionMapper(new ImportFunctionsMapper(originalFunctionMapper, var, resolved.getType()));
 	}
 
 	// Helpers --------------------------------------------------------------------------------------------------------
@@ -147,7 +155,7 @@ public class ImportFunctions extends TagHandler {
 	 * @return The concrete {@link Class} instance.
 	 * @throws IllegalArgumentException When it is missing in the classpath.
 	 */
-	static Class<?> toClass(String type, ClassLoader loader) { // Package-private so that ImportConstants can also use it.
+	private static Class<?> toClass(String type, ClassLoader loader) {
 		try {
 			return Class.forName(type, true, loader);
 		}
@@ -172,6 +180,46 @@ public class ImportFunctions extends TagHandler {
 
 	// Nested classes -------------------------------------------------------------------------------------------------
 
+	/**
+	 * The class as resolved by {@link ImportFunctions#toClass(String, ClassLoader)} for the given type and loader. This
+	 * is remembered in the tag handler, so that the class isn't resolved again on every view build, which is in case of
+	 * the lenient inner class notation <code>com.example.Outer.Inner</code> a relatively expensive classpath search.
+	 * Package-private so that ImportConstants can also use it.
+	 */
+	static final class ResolvedType {
+
+		private final String name;
+		private final ClassLoader loader;
+		private final Class<?> type;
+
+		private ResolvedType(String name, ClassLoader loader) {
+			this.name = name;
+			this.loader = loader;
+			this.type = toClass(name, loader);
+		}
+
+		/**
+		 * Returns the given previously resolved type if it was resolved for the given type name and loader, else
+		 * resolve the class of the given type name and loader.
+		 * @param previous The previously resolved type, may be <code>null</code>.
+		 * @param name The fully qualified name of the class.
+		 * @param loader The class loader to load the class with.
+		 * @return The resolved type.
+		 * @throws IllegalArgumentException When it is missing in the classpath.
+		 */
+		static ResolvedType resolve(ResolvedType previous, String name, ClassLoader loader) {
+			if (previous != null && previous.loader == loader && previous.name.equals(name)) {
+				return previous;
+			}
+
+			return new ResolvedType(name, loader);
+		}
+
+		Class<?> getType() {
+			return type;
+		}
+	}
+
 	private static class ImportFunctionsMapper extends FunctionMapper {
 
 		private FunctionMapper originalFunctionMapper;
@@ -187,8 +235,8 @@ public class ImportFunctions extends TagHandler {
 		@Override
 		public Method resolveFunction(String prefix, String name) {
 			if (var.equals(prefix)) {
-				String key = type + "." + name;
-				Method function = FUNCTIONS_CACHE.get(key);
+				Map<String, Method> functions = FUNCTIONS_CACHE.get(type); // Associated with the class itself, so that it can be unloaded on redeploy.
+				Method function = functions.get(name);
 
 				if (function == null) {
 					function = findMethod(type, name);
@@ -197,7 +245,7 @@ public class ImportFunctions extends TagHandler {
 						throw new IllegalArgumentException(format(ERROR_INVALID_FUNCTION, type.getName(), name));
 					}
 
-					FUNCTIONS_CACHE.put(key, function);
+					functions.put(name, function);
 				}
 
 				return function;
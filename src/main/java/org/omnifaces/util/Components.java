@@ -26,6 +26,7 @@ import static jakarta.faces.component.visit.VisitHint.SKIP_ITERATION;
 import static jakarta.faces.component.visit.VisitResult.ACCEPT;
 import static jakarta.faces.event.PhaseId.RENDER_RESPONSE;
 import static java.lang.Boolean.TRUE;
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
@@ -47,7 +48,9 @@ import static org.omnifaces.util.Faces.isDevelopment;
 import static org.omnifaces.util.Faces.setContext;
 import static org.omnifaces.util.Faces.validationFailed;
 import static org.omnifaces.util.FacesLocal.createConverter;
+import static org.omnifaces.util.FacesLocal.getInitParameter;
 import static org.omnifaces.util.FacesLocal.getRenderKit;
+import static org.omnifaces.util.FacesLocal.getRequestAttribute;
 import static org.omnifaces.util.FacesLocal.getRequestQueryStringMap;
 import static org.omnifaces.util.FacesLocal.getViewParameterMap;
 import static org.omnifaces.util.FacesLocal.isAjaxRequestWithPartialRendering;
@@ -68,6 +71,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -76,6 +80,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -179,6 +184,25 @@ import org.omnifaces.el.ScopedRunner;
  * // Collecting all queued actions and action listeners as method expression strings in a logging phase listener.
  * List&lt;String&gt; actions = Components.getActionExpressionsAndListeners(Components.getCurrentActionSource());
  * </pre>
+ *
+ * <h2>Find component index</h2>
+ * <p>
+ * By default, {@link #findComponent(String)}, {@link #findComponentRelatively(UIComponent, String)},
+ * {@link #findComponentInParents(UIComponent, String)} and {@link #findComponentInChildren(UIComponent, String)} search
+ * the component tree on every invocation. When these are invoked many times during a single request on a large
+ * component tree, then you can let the found components be remembered for the remainder of the request by setting the
+ * {@value #PARAM_NAME_FIND_COMPONENT_INDEX} context parameter to <code>true</code>.
+ * <pre>
+ * &lt;context-param&gt;
+ *     &lt;param-name&gt;org.omnifaces.COMPONENTS_FIND_COMPONENT_INDEX&lt;/param-name&gt;
+ *     &lt;param-value&gt;true&lt;/param-value&gt;
+ * &lt;/context-param&gt;
+ * </pre>
+ * <p>
+ * A remembered component is only returned when it's still part of the current component tree and its own ID and the IDs
+ * of its naming container parents still match the search expression, else the component tree is searched again. This
+ * covers components which have been moved or have been given a different ID in the meanwhile. Searches which didn't
+ * find any component are not remembered.
  * <p>
  * For a full list, check the <a href="#method.summary">method summary</a>.
  *
@@ -197,6 +221,16 @@ public final class Components {
 	/** The name of the value attribute. */
 	public static final String VALUE_ATTRIBUTE = "value";
 
+	/**
+	 * The context parameter name to enable remembering the components found by the <code>findComponentXxx()</code>
+	 * methods for the remainder of the request: {@value #PARAM_NAME_FIND_COMPONENT_INDEX}. Defaults to
+	 * <code>false</code>.
+	 * @since 4.4
+	 */
+	public static final String PARAM_NAME_FIND_COMPONENT_INDEX = "org.omnifaces.COMPONENTS_FIND_COMPONENT_INDEX";
+
+	private static final String FIND_COMPONENT_INDEX = Components.class.getName() + ".FIND_COMPONENT_INDEX";
+
 	private static final String ERROR_MISSING_PARENT =
 		"Component '%s' must have a parent of type '%s', but it cannot be found.";
 	private static final String ERROR_MISSING_DIRECT_PARENT =
@@ -214,6 +248,10 @@ public final class Components {
 
 	private static final Set<SearchExpressionHint> RESOLVE_LABEL_FOR = EnumSet.of(RESOLVE_SINGLE_COMPONENT, IGNORE_NO_RESULT);
 
+	// Lazy loaded properties (will only be initialized when FacesContext is available) -------------------------------
+
+	private static Boolean findComponentIndexEnabled;
+
 	// Constructors ---------------------------------------------------------------------------------------------------
 
 	private Components() {
@@ -277,7 +315,8 @@ public final class Components {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <C extends UIComponent> C findComponent(String clientId) {
-		return (C) getViewRoot().findComponent(clientId);
+		UIViewRoot viewRoot = getViewRoot();
+		return (C) findComponentIndexed(viewRoot, "root", clientId, () -> viewRoot.findComponent(clientId));
 	}
 
 	/**
@@ -329,17 +368,7 @@ public final class Components {
 			return null;
 		}
 
-		for (UIComponent parent = component; parent != null; parent = parent.getParent()) {
-			if (parent instanceof NamingContainer || parent instanceof UIViewRoot) {
-				UIComponent result = findComponentIgnoringIAE(parent, clientId);
-
-				if (result != null) {
-					return (C) result;
-				}
-			}
-		}
-
-		return null;
+		return (C) findComponentIndexed(component, "parents", clientId, () -> searchInParents(component, clientId));
 	}
 
 	/**
@@ -360,23 +389,7 @@ public final class Components {
 			return null;
 		}
 
-		for (UIComponent child : component.getChildren()) {
-
-			UIComponent result = null;
-			if (child instanceof NamingContainer) {
-				result = findComponentIgnoringIAE(child, clientId);
-			}
-
-			if (result == null) {
-				result = findComponentInChildren(child, clientId);
-			}
-
-			if (result != null) {
-				return (C) result;
-			}
-		}
-
-		return null;
+		return (C) findComponentIndexed(component, "children", clientId, () -> searchInChildren(component, clientId));
 	}
 
 	/**
@@ -596,9 +609,29 @@ public final class Components {
 			});
 		}
 
+		/**
+		 * Returns the first component as specified by the query parameters set via this builder, if any. The visit
+		 * stops as soon as the component is found.
+		 *
+		 * @param <C> The expected component type.
+		 * @return The first component as specified by the query parameters set via this builder, if any.
+		 * @throws ClassCastException When <code>C</code> is of wrong type.
+		 * @since 4.4
+		 */
+		@SuppressWarnings("unchecked")
+		public <C extends UIComponent> Optional<C> findFirst() {
+			UIComponent[] found = new UIComponent[1];
+			invoke((context, target) -> {
+				found[0] = target;
+				return VisitResult.COMPLETE;
+			});
+			return Optional.ofNullable((C) found[0]);
+		}
+
 		/**
 		 * Invokes the given operation on the components as specified by the
-		 * query parameters set via this builder.
+		 * query parameters set via this builder. The operation can return {@link VisitResult#REJECT} to skip the
+		 * subtree of the current component, or {@link VisitResult#COMPLETE} to stop visiting altogether.
 		 *
 		 * @param operation the operation to invoke on each component
 		 */
@@ -1826,6 +1859,174 @@ public final class Components {
 		});
 	}
 
+	/**
+	 * Search in the naming container parents of the given component, starting at the given component itself.
+	 */
+	private static UIComponent searchInParents(UIComponent component, String clientId) {
+		for (UIComponent parent = component; parent != null; parent = parent.getParent()) {
+			if (parent instanceof NamingContainer || parent instanceof UIViewRoot) {
+				UIComponent result = findComponentIgnoringIAE(parent, clientId);
+
+				if (result != null) {
+					return result;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Search in the naming container children of the given component, depth first.
+	 */
+	private static UIComponent searchInChildren(UIComponent component, String clientId) {
+		for (UIComponent child : component.getChildren()) {
+
+			UIComponent result = null;
+			if (child instanceof NamingContainer) {
+				result = findComponentIgnoringIAE(child, clientId);
+			}
+
+			if (result == null) {
+				result = searchInChildren(child, clientId);
+			}
+
+			if (result != null) {
+				return result;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * If enabled by {@link #PARAM_NAME_FIND_COMPONENT_INDEX}, return the component previously found by the given search
+	 * from the given base component during the current request, provided that it's still part of the component tree
+	 * which is searched and still matches the search expression, else perform the given search and remember the found
+	 * component, if any.
+	 */
+	private static UIComponent findComponentIndexed(UIComponent base, String scope, String clientId, Supplier<UIComponent> search) {
+		FacesContext context = getContext();
+
+		if (!isFindComponentIndexEnabled(context)) {
+			return search.get();
+		}
+
+		Map<UIComponent, Map<String, UIComponent>> index = getRequestAttribute(context, FIND_COMPONENT_INDEX, IdentityHashMap::new);
+		Map<String, UIComponent> found = index.computeIfAbsent(base, k -> new HashMap<>());
+		String key = scope + ":" + clientId;
+		UIComponent result = found.get(key);
+		UIComponent searchedTree = "children".equals(scope) ? base : context.getViewRoot();
+
+		if (result != null && isDescendant(result, searchedTree) && matchesSearchExpression(context, result, clientId, "root".equals(scope))) {
+			return result;
+		}
+
+		result = search.get();
+
+		if (result != null) {
+			found.put(key, result);
+		}
+		else {
+			found.remove(key);
+		}
+
+		return result;
+	}
+
+	private static boolean isFindComponentIndexEnabled(FacesContext context) {
+		if (findComponentIndexEnabled == null) {
+			findComponentIndexEnabled = parseBoolean(getInitParameter(context, PARAM_NAME_FIND_COMPONENT_INDEX));
+		}
+
+		return findComponentIndexEnabled;
+	}
+
+	/**
+	 * Returns whether the IDs of the given component and its naming container parents still match the given client ID
+	 * search expression, i.e. it's not been moved or been given a different ID in the meanwhile. When the search
+	 * expression is absolute, or when it's anchored at the view root, then there may be no naming container parents left.
+	 * All UIData/UIRepeat iteration indexes in the search expression are skipped, not only the last one, so that nested
+	 * iteration client IDs such as <code>outer:0:inner:1:input</code> can also be matched. This is safe because a
+	 * component ID can't start with a digit.
+	 */
+	private static boolean matchesSearchExpression(FacesContext context, UIComponent component, String clientId, boolean anchored) {
+		char separatorChar = UINamingContainer.getSeparatorChar(context);
+		UIComponent current = component;
+
+		for (int end = clientId.length(), start; end >= 0; end = start) {
+			start = clientId.lastIndexOf(separatorChar, end - 1);
+
+			if (start < 0 && end == 0) {
+				return current == null; // Absolute search expression.
+			}
+
+			if (isIterationIndex(clientId, start + 1, end)) {
+				continue;
+			}
+
+			if (current == null || !matchesId(current.getId(), clientId, start + 1, end)) {
+				return false;
+			}
+
+			current = getClosestNamingContainer(current);
+		}
+
+		return !anchored || current == null;
+	}
+
+	/**
+	 * Returns whether the given part of the given client ID represents an UIData/UIRepeat iteration index.
+	 */
+	private static boolean isIterationIndex(String clientId, int start, int end) {
+		if (start == end) {
+			return false;
+		}
+
+		for (int i = start; i < end; i++) {
+			if (!Character.isDigit(clientId.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether the given part of the given client ID equals the given component ID.
+	 */
+	private static boolean matchesId(String id, String clientId, int start, int end) {
+		return id != null && id.length() == end - start && clientId.startsWith(id, start);
+	}
+
+	/**
+	 * Returns the closest naming container parent of the given component, or <code>null</code> if there is none below
+	 * the view root.
+	 */
+	private static UIComponent getClosestNamingContainer(UIComponent component) {
+		for (UIComponent parent = component.getParent(); parent != null && !(parent instanceof UIViewRoot); parent = parent.getParent()) {
+			if (parent instanceof NamingContainer) {
+				return parent;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns whether the given component is the given ancestor or still a descendant of it, i.e. it's not been removed
+	 * from the component tree in the meanwhile.
+	 */
+	private static boolean isDescendant(UIComponent component, UIComponent ancestor) {
+		for (UIComponent current = component; current != null; current = current.getParent()) {
+			if (current == ancestor) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Use {@link UIComponent#findComponent(String)} and ignore the potential {@link IllegalArgumentException} by
 	 * returning null instead.
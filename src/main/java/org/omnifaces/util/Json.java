@@ -13,16 +13,28 @@
 package org.omnifaces.util;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 
-import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.UnaryOperator;
@@ -46,6 +58,27 @@ public final class Json {
 
 	// Constants ------------------------------------------------------------------------------------------------------
 
+	private static final int MAX_REUSABLE_BUFFER_CAPACITY = 65536;
+
+	private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+
+	// NOTE: the ClassValue values are held by the class itself, so they may not reference any OmniFaces class when the
+	// class is loaded by a longer living class loader, otherwise the OmniFaces class loader would leak on redeploy.
+
+	private static final ClassValue<Integer> TYPES = new ClassValue<>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return Type.of(type).ordinal();
+		}
+	};
+
+	private static final ClassValue<Property[]> PROPERTIES = new ClassValue<>() {
+		@Override
+		protected Property[] computeValue(Class<?> type) {
+			return Property.of(type);
+		}
+	};
+
 	private static final String ERROR_INVALID_BEAN = "Cannot introspect object of type '%s' as bean.";
 	private static final String ERROR_INVALID_GETTER = "Cannot invoke getter of property '%s' of bean '%s'.";
 
@@ -70,7 +103,7 @@ public final class Json {
 	 * @throws IllegalArgumentException When the given object or one of its properties cannot be inspected as a bean.
 	 */
 	public static String encode(Object object) {
-		return encode(object, null);
+		return encode(object, (UnaryOperator<String>) null);
 	}
 
 	/**
@@ -83,162 +116,328 @@ public final class Json {
 	 * @since 3.6
 	 */
 	public static String encode(Object object, UnaryOperator<String> propertyNameFormatter) {
-		StringBuilder builder = new StringBuilder();
-		encode(object, builder, propertyNameFormatter);
-		return builder.toString();
-	}
+		StringBuilder builder = BUFFER.get();
 
-	/**
-	 * Method allowing tail recursion (prevents potential stack overflow on deeply nested structures).
-	 */
-	private static void encode(Object object, StringBuilder builder, UnaryOperator<String> propertyNameFormatter) {
-		if (object == null) {
-			builder.append("null");
-		}
-		else if (object instanceof Boolean || object instanceof Number) {
-			builder.append(object.toString());
-		}
-		else if (object instanceof CharSequence || object instanceof Enum<?>) {
-			encodeString(object.toString(), builder);
+		if (builder == null) {
+			builder = new StringBuilder();
 		}
-		else if (object instanceof Date) {
-			builder.append('"').append(Utils.formatRFC1123((Date) object)).append('"');
-		}
-		else if (object instanceof Temporal) {
-			builder.append('"').append(Utils.toZonedDateTime(object).format(RFC_1123_DATE_TIME)).append('"');
+		else {
+			BUFFER.remove(); // Prevents sharing the buffer when the property name formatter reentrantly encodes.
 		}
-		else if (object instanceof Collection<?>) {
-			encodeCollection((Collection<?>) object, builder, propertyNameFormatter);
+
+		try {
+			encode(object, builder, propertyNameFormatter);
+			return builder.toString();
 		}
-		else if (object.getClass().isArray()) {
-			encodeArray(object, builder, propertyNameFormatter);
+		catch (IOException e) {
+			throw new UncheckedIOException(e); // Not possible with a StringBuilder.
 		}
-		else if (object instanceof Map<?, ?>) {
-			encodeMap((Map<?, ?>) object, builder, propertyNameFormatter);
+		finally {
+			if (builder.capacity() <= MAX_REUSABLE_BUFFER_CAPACITY) {
+				builder.setLength(0);
+				BUFFER.set(builder);
+			}
 		}
-		else if (object instanceof Class<?>) {
-			encodeString(((Class<?>) object).getName(), builder);
+	}
+
+	/**
+	 * Does the same as {@link #encode(Object)} but then streams the JSON directly to the given writer instead of
+	 * collecting it in a string first. The writer is not flushed nor closed.
+	 * @param object The object to be encoded as JSON.
+	 * @param writer The writer to write the JSON-encoded representation of the given object to.
+	 * @throws IOException When an I/O error occurs while writing to the given writer.
+	 * @throws IllegalArgumentException When the given object or one of its properties cannot be inspected as a bean.
+	 * @since 4.4
+	 */
+	public static void encode(Object object, Writer writer) throws IOException {
+		encode(object, writer, null);
+	}
+
+	/**
+	 * Does the same as {@link #encode(Object, Writer)} but then with a custom property name formatter.
+	 * @param object The object to be encoded as JSON.
+	 * @param writer The writer to write the JSON-encoded representation of the given object to.
+	 * @param propertyNameFormatter The property name formatter. When this is null, then the property names are not
+	 * adjusted.
+	 * @throws IOException When an I/O error occurs while writing to the given writer.
+	 * @throws IllegalArgumentException When the given object or one of its properties cannot be inspected as a bean.
+	 * @since 4.4
+	 */
+	public static void encode(Object object, Writer writer, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		encode(object, (Appendable) writer, propertyNameFormatter);
+	}
+
+	/**
+	 * Does the same as {@link #encode(Object, Writer)} but then streams the JSON as UTF-8 to the given output stream.
+	 * The output stream is flushed but not closed.
+	 * @param object The object to be encoded as JSON.
+	 * @param output The output stream to write the UTF-8 encoded JSON representation of the given object to.
+	 * @throws IOException When an I/O error occurs while writing to the given output stream.
+	 * @throws IllegalArgumentException When the given object or one of its properties cannot be inspected as a bean.
+	 * @since 4.4
+	 */
+	public static void encode(Object object, OutputStream output) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+		encode(object, writer);
+		writer.flush();
+	}
+
+	/**
+	 * Method allowing tail recursion (prevents potential stack overflow on deeply nested structures).
+	 */
+	private static void encode(Object object, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		if (object == null) {
+			output.append("null");
+			return;
 		}
-		else {
-			encodeBean(object, builder, propertyNameFormatter);
+
+		switch (Type.VALUES[TYPES.get(object.getClass())]) {
+			case LITERAL:
+				output.append(object.toString());
+				break;
+			case STRING:
+				encodeString(object.toString(), output);
+				break;
+			case DATE:
+				output.append('"').append(Utils.formatRFC1123((Date) object)).append('"');
+				break;
+			case TEMPORAL:
+				output.append('"').append(Utils.toZonedDateTime(object).format(RFC_1123_DATE_TIME)).append('"');
+				break;
+			case COLLECTION:
+				encodeCollection((Collection<?>) object, output, propertyNameFormatter);
+				break;
+			case ARRAY:
+				encodeArray(object, output, propertyNameFormatter);
+				break;
+			case MAP:
+				encodeMap((Map<?, ?>) object, output, propertyNameFormatter);
+				break;
+			case CLASS:
+				encodeString(((Class<?>) object).getName(), output);
+				break;
+			default:
+				encodeBean(object, output, propertyNameFormatter);
+				break;
 		}
 	}
 
 	/**
 	 * Encode a Java string as JS string.
 	 */
-	private static void encodeString(String string, StringBuilder builder) {
-		builder.append('"').append(Utils.escapeJS(string, false)).append('"');
+	private static void encodeString(String string, Appendable output) throws IOException {
+		output.append('"').append(Utils.escapeJS(string, false)).append('"');
 	}
 
 	/**
 	 * Encode a Java collection as JS array.
 	 */
-	private static void encodeCollection(Collection<?> collection, StringBuilder builder, UnaryOperator<String> propertyNameFormatter) {
-		builder.append('[');
+	private static void encodeCollection(Collection<?> collection, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		output.append('[');
 		int i = 0;
 
 		for (Object element : collection) {
 			if (i++ > 0) {
-				builder.append(',');
+				output.append(',');
 			}
 
-			encode(element, builder, propertyNameFormatter);
+			encode(element, output, propertyNameFormatter);
 		}
 
-		builder.append(']');
+		output.append(']');
 	}
 
 	/**
 	 * Encode a Java array as JS array.
 	 */
-	private static void encodeArray(Object array, StringBuilder builder, UnaryOperator<String> propertyNameFormatter) {
-		builder.append('[');
+	private static void encodeArray(Object array, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		output.append('[');
 		int length = Array.getLength(array);
 
 		for (int i = 0; i < length; i++) {
 			if (i > 0) {
-				builder.append(',');
+				output.append(',');
 			}
 
-			encode(Array.get(array, i), builder, propertyNameFormatter);
+			encode(Array.get(array, i), output, propertyNameFormatter);
 		}
 
-		builder.append(']');
+		output.append(']');
 	}
 
 	/**
 	 * Encode a Java map as JS object.
 	 */
-	private static void encodeMap(Map<?, ?> map, StringBuilder builder, UnaryOperator<String> propertyNameFormatter) {
-		builder.append('{');
+	private static void encodeMap(Map<?, ?> map, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		output.append('{');
 		int i = 0;
 
 		for (Entry<?, ?> entry : map.entrySet()) {
 			if (i++ > 0) {
-				builder.append(',');
+				output.append(',');
 			}
 
-			encodePropertyName(String.valueOf(entry.getKey()), builder, propertyNameFormatter);
-			builder.append(':');
-			encode(entry.getValue(), builder, propertyNameFormatter);
+			encodePropertyName(String.valueOf(entry.getKey()), output, propertyNameFormatter);
+			output.append(':');
+			encode(entry.getValue(), output, propertyNameFormatter);
 		}
 
-		builder.append('}');
+		output.append('}');
 	}
 
 	/**
 	 * Encode a Java bean as JS object.
 	 */
-	private static void encodeBean(Object bean, StringBuilder builder, UnaryOperator<String> propertyNameFormatter) {
-		BeanInfo beanInfo;
+	private static void encodeBean(Object bean, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		output.append('{');
+		int i = 0;
 
-		try {
-			beanInfo = Introspector.getBeanInfo(bean.getClass());
+		Class<?> beanClass = bean.getClass();
+
+		for (Property property : isCacheable(beanClass) ? PROPERTIES.get(beanClass) : Property.of(beanClass)) {
+			Object value = property.getValue(bean);
+
+			if (value != null) {
+				if (i++ > 0) {
+					output.append(',');
+				}
+
+				encodePropertyName(property.name, output, propertyNameFormatter);
+				output.append(':');
+				encode(value, output, propertyNameFormatter);
+			}
 		}
-		catch (IntrospectionException e) {
-			throw new IllegalArgumentException(
-				format(ERROR_INVALID_BEAN, bean.getClass()), e);
+
+		output.append('}');
+	}
+
+	/**
+	 * Returns whether the properties of the given bean class may be cached in {@link #PROPERTIES}. This is only the case
+	 * when the bean class is loaded by our own class loader or a descendant of it, because a bean class in a longer
+	 * living class loader would otherwise pin our class loader via the cached {@link Property} instances.
+	 */
+	private static boolean isCacheable(Class<?> beanClass) {
+		ClassLoader jsonClassLoader = Json.class.getClassLoader();
+
+		for (ClassLoader loader = beanClass.getClassLoader(); loader != null; loader = loader.getParent()) {
+			if (loader == jsonClassLoader) {
+				return true;
+			}
 		}
 
-		builder.append('{');
-		int i = 0;
+		return false;
+	}
+
+	/**
+	 * Encode a Java String as JS object property name.
+	 */
+	private static void encodePropertyName(String string, Appendable output, UnaryOperator<String> propertyNameFormatter) throws IOException {
+		encodeString(propertyNameFormatter == null ? string : propertyNameFormatter.apply(string), output);
+	}
 
-		for (PropertyDescriptor property : beanInfo.getPropertyDescriptors()) {
-			if (property.getReadMethod() == null || "class".equals(property.getName())) {
-				continue;
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * The JSON encoding type of a Java class, resolved once per class.
+	 */
+	private enum Type {
+		LITERAL, STRING, DATE, TEMPORAL, COLLECTION, ARRAY, MAP, CLASS, BEAN;
+
+		static final Type[] VALUES = values();
+
+		static Type of(Class<?> type) {
+			if (Boolean.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type)) {
+				return LITERAL;
+			}
+			else if (CharSequence.class.isAssignableFrom(type) || Enum.class.isAssignableFrom(type)) {
+				return STRING;
+			}
+			else if (Date.class.isAssignableFrom(type)) {
+				return DATE;
 			}
+			else if (Temporal.class.isAssignableFrom(type)) {
+				return TEMPORAL;
+			}
+			else if (Collection.class.isAssignableFrom(type)) {
+				return COLLECTION;
+			}
+			else if (type.isArray()) {
+				return ARRAY;
+			}
+			else if (Map.class.isAssignableFrom(type)) {
+				return MAP;
+			}
+			else if (Class.class == type) {
+				return CLASS;
+			}
+			else {
+				return BEAN;
+			}
+		}
+	}
+
+	/**
+	 * A readable javabean property, resolved once per bean class.
+	 */
+	private static final class Property {
+
+		private final String name;
+		private final MethodHandle getter;
+		private final Class<?> beanClass;
+
+		private Property(String name, MethodHandle getter, Class<?> beanClass) {
+			this.name = name;
+			this.getter = getter;
+			this.beanClass = beanClass;
+		}
 
-			Object value;
+		static Property[] of(Class<?> beanClass) {
+			PropertyDescriptor[] descriptors;
 
 			try {
-				value = property.getReadMethod().invoke(bean);
+				descriptors = Introspector.getBeanInfo(beanClass).getPropertyDescriptors();
 			}
-			catch (Exception e) {
-				throw new IllegalArgumentException(
-					format(ERROR_INVALID_GETTER, property.getName(), bean.getClass()), e);
+			catch (IntrospectionException e) {
+				throw new IllegalArgumentException(format(ERROR_INVALID_BEAN, beanClass), e);
 			}
 
-			if (value != null) {
-				if (i++ > 0) {
-					builder.append(',');
+			List<Property> properties = new ArrayList<>(descriptors.length);
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			for (PropertyDescriptor descriptor : descriptors) {
+				if (descriptor.getReadMethod() == null || "class".equals(descriptor.getName())) {
+					continue;
+				}
+
+				MethodHandle getter;
+
+				try {
+					getter = lookup.unreflect(descriptor.getReadMethod()).asType(methodType(Object.class, Object.class));
+				}
+				catch (IllegalAccessException e) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_GETTER, descriptor.getName(), beanClass), e);
 				}
 
-				encodePropertyName(property.getName(), builder, propertyNameFormatter);
-				builder.append(':');
-				encode(value, builder, propertyNameFormatter);
+				properties.add(new Property(descriptor.getName(), getter, beanClass));
 			}
-		}
 
-		builder.append('}');
-	}
+			return properties.toArray(new Property[properties.size()]);
+		}
 
-	/**
-	 * Encode a Java String as JS object property name.
-	 */
-	private static void encodePropertyName(String string, StringBuilder builder, UnaryOperator<String> propertyNameFormatter)
-	{
-		encodeString(propertyNameFormatter == null ? string : propertyNameFormatter.apply(string), builder);
+		Object getValue(Object bean) {
+			try {
+				return (Object) getter.invokeExact(bean);
+			}
+			catch (Exception e) {
+				throw new IllegalArgumentException(format(ERROR_INVALID_GETTER, name, beanClass), e);
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				throw new UndeclaredThrowableException(e); // Only a custom direct Throwable subclass can end up here.
+			}
+		}
 	}
 
 }
\ No newline at end of file
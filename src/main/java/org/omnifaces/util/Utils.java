@@ -58,6 +58,8 @@ import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
@@ -78,6 +80,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -117,7 +120,8 @@ public final class Utils {
 
 	private static final int DEFAULT_STREAM_BUFFER_SIZE = 10240;
 	private static final String PATTERN_RFC1123_DATE = "EEE, dd MMM yyyy HH:mm:ss zzz";
-	private static final TimeZone TIMEZONE_GMT = TimeZone.getTimeZone("GMT");
+	private static final DateTimeFormatter FORMATTER_RFC1123_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+	private static final AtomicReference<FormattedRFC1123Date> LAST_FORMATTED_RFC1123_DATE = new AtomicReference<>();
 	private static final Pattern PATTERN_ISO639_ISO3166_LOCALE = Pattern.compile("[a-z]{2,3}(_[A-Z]{2})?");
 	private static final int UNICODE_3_BYTES = 0xfff;
 	private static final int UNICODE_2_BYTES = 0xff;
@@ -856,9 +860,16 @@ public final class Utils {
 	 * @since 1.2
 	 */
 	public static String formatRFC1123(Date date) {
-		SimpleDateFormat sdf = new SimpleDateFormat(PATTERN_RFC1123_DATE, Locale.US);
-		sdf.setTimeZone(TIMEZONE_GMT);
-		return sdf.format(date);
+		long epochSecond = Math.floorDiv(date.getTime(), 1000L);
+		FormattedRFC1123Date lastFormatted = LAST_FORMATTED_RFC1123_DATE.get();
+
+		if (lastFormatted != null && lastFormatted.epochSecond == epochSecond) {
+			return lastFormatted.formatted; // RFC1123 doesn't store millis, so this is mostly a hit for "now" dates.
+		}
+
+		String formatted = FORMATTER_RFC1123_DATE.format(Instant.ofEpochSecond(epochSecond));
+		LAST_FORMATTED_RFC1123_DATE.set(new FormattedRFC1123Date(epochSecond, formatted));
+		return formatted;
 	}
 
 	/**
@@ -870,8 +881,28 @@ public final class Utils {
 	 * @since 1.2
 	 */
 	public static Date parseRFC1123(String string) throws ParseException {
-		SimpleDateFormat sdf = new SimpleDateFormat(PATTERN_RFC1123_DATE, Locale.US);
-		return sdf.parse(string);
+		try {
+			return Date.from(Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(string)));
+		}
+		catch (DateTimeParseException ignore) {
+			logger.log(FINEST, "Ignoring thrown exception; will only happen on non-standard date and is retried below.", ignore);
+			SimpleDateFormat sdf = new SimpleDateFormat(PATTERN_RFC1123_DATE, Locale.US); // Lenient, e.g. for other timezone names.
+			return sdf.parse(string);
+		}
+	}
+
+	/**
+	 * The last date formatted by {@link Utils#formatRFC1123(Date)}, with second precision.
+	 */
+	private static final class FormattedRFC1123Date {
+
+		private final long epochSecond;
+		private final String formatted;
+
+		private FormattedRFC1123Date(long epochSecond, String formatted) {
+			this.epochSecond = epochSecond;
+			this.formatted = formatted;
+		}
 	}
 
 	/**
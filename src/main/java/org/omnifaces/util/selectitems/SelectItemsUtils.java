@@ -12,11 +12,14 @@
  */
 package org.omnifaces.util.selectitems;
 
+import static org.omnifaces.util.FacesLocal.getRequestAttribute;
 import static org.omnifaces.util.Utils.isEmpty;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -34,11 +37,17 @@ import jakarta.faces.model.SelectItemGroup;
  */
 public final class SelectItemsUtils {
 
+	private static final String VALUE_INDEXES = SelectItemsUtils.class.getName() + ".VALUE_INDEXES";
+
 	private SelectItemsUtils() {}
 
 	/**
 	 * Finds an object value in the {@link SelectItem} instances associated with the given component by means of matching its converted value with
 	 * the given string value.
+	 * <p>
+	 * The converted values are indexed per component and converter for the duration of the current request, so that converting multiple
+	 * values of the same component, such as with a multi-select, doesn't need to collect and convert all select items again on each call.
+	 * The select items are only converted as far as needed to find the given string value.
 	 *
 	 * @param context The involved faces context.
 	 * @param component the component with which {@link SelectItem}s should be associated that are used to search in.
@@ -48,36 +57,16 @@ public final class SelectItemsUtils {
 	 * @return the Object representation of the value where its string representation matches the input value.
 	 */
 	public static Object findValueByStringConversion(FacesContext context, UIComponent component, String value, Converter<Object> converter) {
-		return findValueByStringConversion(context, component, SelectItemsCollector.collectFromParent(context, component).iterator(), value, converter);
-	}
-
-	private static Object findValueByStringConversion(FacesContext context, UIComponent component, Iterator<SelectItem> items, String value, Converter<Object> converter) {
-		while (items.hasNext()) {
-			SelectItem item = items.next();
-
-			if (item instanceof SelectItemGroup) {
-				SelectItem[] groupItems = ((SelectItemGroup) item).getSelectItems();
-				Object object = findValueByStringConversion(context, component, groupItems, value, converter);
-
-				if (object != null) {
-					return object;
-				}
-			}
-			else if (!item.isNoSelectionOption()) {
-				Object itemValue = item.getValue();
-				String convertedItemValue = converter.getAsString(context, component, itemValue);
+		Map<String, ValueIndex> valueIndexes = getRequestAttribute(context, VALUE_INDEXES, HashMap::new);
+		String clientId = component.getClientId(context);
+		ValueIndex valueIndex = valueIndexes.get(clientId);
 
-				if (Objects.equals(value, convertedItemValue)) {
-					return itemValue;
-				}
-			}
+		if (valueIndex == null || valueIndex.converter != converter) {
+			valueIndex = new ValueIndex(collectAllValuesFromSelectItems(context, component), converter);
+			valueIndexes.put(clientId, valueIndex);
 		}
 
-		return null;
-	}
-
-	private static Object findValueByStringConversion(FacesContext context, UIComponent component, SelectItem[] items, String value, Converter<Object> converter) {
-		return isEmpty(items) ? null : findValueByStringConversion(context, component, new ArrayIterator(items), value, converter);
+		return valueIndex.find(context, component, value);
 	}
 
 	/**
@@ -110,6 +99,41 @@ public final class SelectItemsUtils {
 		}
 	}
 
+	/**
+	 * Lazily built index of the select item values by their string representation. The first select item value with a
+	 * given string representation wins.
+	 */
+	private static final class ValueIndex {
+
+		private final List<Object> values;
+		private final Converter<Object> converter;
+		private final Map<String, Object> index = new HashMap<>();
+		private int indexed;
+
+		private ValueIndex(List<Object> values, Converter<Object> converter) {
+			this.values = values;
+			this.converter = converter;
+		}
+
+		private Object find(FacesContext context, UIComponent component, String value) {
+			if (index.containsKey(value)) {
+				return index.get(value);
+			}
+
+			while (indexed < values.size()) {
+				Object itemValue = values.get(indexed++);
+				String convertedItemValue = converter.getAsString(context, component, itemValue);
+				index.putIfAbsent(convertedItemValue, itemValue);
+
+				if (Objects.equals(value, convertedItemValue)) {
+					return itemValue;
+				}
+			}
+
+			return null;
+		}
+	}
+
 	/**
 	 * Exposes an Array via an <code>Iterator</code>
 	 */
@@ -0,0 +1,233 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.viewhandler;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.omnifaces.util.Servlets.getApplicationAttribute;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * <p>
+ * Application wide render durations of component subtrees per view ID, as sampled by
+ * {@link RenderProfilerViewHandler}. The duration of a component subtree is the time between the start of
+ * {@link jakarta.faces.render.Renderer#encodeBegin(jakarta.faces.context.FacesContext, jakarta.faces.component.UIComponent)}
+ * and the end of
+ * {@link jakarta.faces.render.Renderer#encodeEnd(jakarta.faces.context.FacesContext, jakarta.faces.component.UIComponent)}
+ * of the component, and thus includes the durations of its children. Components are identified by their client ID
+ * whereby iteration indexes are replaced by <code>*</code>, the durations of all iterations within a single request
+ * are summed.
+ * <p>
+ * In order to keep the memory footprint bounded, at most {@value #MAX_VIEW_IDS} view IDs and per view ID at most
+ * {@value #MAX_COMPONENTS} components are tracked. Any further ones are ignored.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see RenderProfilerViewHandler
+ */
+public final class ComponentRenderTimings {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	/** The maximum amount of tracked view IDs. */
+	public static final int MAX_VIEW_IDS = 200;
+
+	/** The maximum amount of tracked components per view ID. */
+	public static final int MAX_COMPONENTS = 500;
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final ConcurrentMap<String, ConcurrentMap<String, Timing>> timings = new ConcurrentHashMap<>();
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	private ComponentRenderTimings() {
+		//
+	}
+
+	// Static ---------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the component render timings of the given web application.
+	 * @param servletContext The involved servlet context.
+	 * @return The component render timings of the given web application.
+	 */
+	public static ComponentRenderTimings getInstance(ServletContext servletContext) {
+		ComponentRenderTimings instance = getApplicationAttribute(servletContext, ComponentRenderTimings.class.getName());
+
+		if (instance == null) {
+			synchronized (ComponentRenderTimings.class) {
+				instance = getApplicationAttribute(servletContext, ComponentRenderTimings.class.getName());
+
+				if (instance == null) {
+					instance = new ComponentRenderTimings();
+					servletContext.setAttribute(ComponentRenderTimings.class.getName(), instance);
+				}
+			}
+		}
+
+		return instance;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Record the render durations of the component subtrees of a single rendering of the given view ID.
+	 * @param viewId The view ID.
+	 * @param durations The render durations in nanoseconds by component client ID.
+	 */
+	public void record(String viewId, Map<String, Long> durations) {
+		ConcurrentMap<String, Timing> viewTimings = timings.get(viewId);
+
+		if (viewTimings == null) {
+			if (timings.size() >= MAX_VIEW_IDS) {
+				return;
+			}
+
+			viewTimings = timings.computeIfAbsent(viewId, k -> new ConcurrentHashMap<>());
+		}
+
+		for (Entry<String, Long> duration : durations.entrySet()) {
+			Timing timing = viewTimings.get(duration.getKey());
+
+			if (timing == null) {
+				if (viewTimings.size() >= MAX_COMPONENTS) {
+					continue;
+				}
+
+				timing = viewTimings.computeIfAbsent(duration.getKey(), k -> new Timing());
+			}
+
+			timing.record(duration.getValue());
+		}
+	}
+
+	/**
+	 * Returns the tracked view IDs, sorted.
+	 * @return The tracked view IDs, sorted.
+	 */
+	public Set<String> getViewIds() {
+		return unmodifiableSet(new TreeSet<>(timings.keySet()));
+	}
+
+	/**
+	 * Returns the given amount of components of the given view ID with the highest mean render duration, slowest first.
+	 * @param viewId The view ID.
+	 * @param amount The maximum amount of components to return.
+	 * @return The slowest components of the given view ID by their client ID.
+	 */
+	public Map<String, Timing> getSlowestComponents(String viewId, int amount) {
+		ConcurrentMap<String, Timing> viewTimings = timings.get(viewId);
+
+		if (viewTimings == null) {
+			return Collections.emptyMap();
+		}
+
+		List<Entry<String, Timing>> slowest = viewTimings.entrySet().stream()
+			.sorted(comparingLong((Entry<String, Timing> entry) -> entry.getValue().getMean()).reversed())
+			.limit(amount)
+			.collect(toList());
+
+		Map<String, Timing> slowestComponents = new LinkedHashMap<>();
+		slowest.forEach(entry -> slowestComponents.put(entry.getKey(), entry.getValue()));
+		return Collections.unmodifiableMap(slowestComponents);
+	}
+
+	/**
+	 * Write the given amount of slowest components per view ID as plain text to the given appendable. There is one
+	 * line per component, composed of the whitespace separated view ID, client ID, count, and the mean and maximum
+	 * render duration in microseconds.
+	 * @param appendable The appendable to write to, e.g. a servlet response writer.
+	 * @param amount The maximum amount of components per view ID.
+	 * @throws IOException When an I/O error occurs.
+	 */
+	public void writeTo(Appendable appendable, int amount) throws IOException {
+		appendable.append("# viewId clientId count mean max (microseconds)\n");
+
+		for (String viewId : getViewIds()) {
+			for (Entry<String, Timing> component : getSlowestComponents(viewId, amount).entrySet()) {
+				Timing timing = component.getValue();
+				appendable.append(viewId).append(' ')
+					.append(component.getKey()).append(' ')
+					.append(String.valueOf(timing.getCount())).append(' ')
+					.append(String.valueOf(timing.getMean())).append(' ')
+					.append(String.valueOf(timing.getMax())).append('\n');
+			}
+		}
+	}
+
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Thread safe render duration statistics of a single component.
+	 */
+	public static final class Timing {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator maximum = new LongAccumulator(Math::max, 0);
+
+		private Timing() {
+			//
+		}
+
+		private void record(long nanos) {
+			long micros = NANOSECONDS.toMicros(nanos);
+			count.increment();
+			total.add(micros);
+			maximum.accumulate(micros);
+		}
+
+		/**
+		 * Returns the amount of sampled renderings.
+		 * @return The amount of sampled renderings.
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * Returns the mean render duration in microseconds.
+		 * @return The mean render duration in microseconds.
+		 */
+		public long getMean() {
+			long currentCount = getCount();
+			return (currentCount == 0) ? 0 : (total.sum() / currentCount);
+		}
+
+		/**
+		 * Returns the maximum render duration in microseconds.
+		 * @return The maximum render duration in microseconds.
+		 */
+		public long getMax() {
+			return maximum.get();
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.viewhandler;
+
+import static java.lang.System.nanoTime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * The render durations of a single sampled rendering by {@link RenderProfilerViewHandler}. This is not thread safe, as
+ * rendering is single threaded.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ */
+final class RenderProfile {
+
+	// Constants ------------------------------------------------------------------------------------------------------
+
+	private static final int INITIAL_DEPTH = 32;
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private final char separatorChar;
+	private final Map<String, Long> durations = new HashMap<>();
+	private UIComponent[] components = new UIComponent[INITIAL_DEPTH];
+	private long[] startTimes = new long[INITIAL_DEPTH];
+	private int depth;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	RenderProfile(char separatorChar) {
+		this.separatorChar = separatorChar;
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Start measuring the given component.
+	 */
+	void start(UIComponent component) {
+		if (depth == components.length) {
+			components = Arrays.copyOf(components, depth * 2);
+			startTimes = Arrays.copyOf(startTimes, depth * 2);
+		}
+
+		components[depth] = component;
+		startTimes[depth++] = nanoTime();
+	}
+
+	/**
+	 * Stop measuring the given component and add its duration to the durations. Any components which were started
+	 * after the given component but never stopped, because they have thrown an exception, are discarded. If the given
+	 * component was never started, then this does nothing.
+	 */
+	void stop(FacesContext context, UIComponent component) {
+		long endTime = nanoTime();
+
+		for (int i = depth - 1; i >= 0; i--) {
+			if (components[i] == component) {
+				durations.merge(getComponentKey(component.getClientId(context)), endTime - startTimes[i], Long::sum);
+				Arrays.fill(components, i, depth, null);
+				depth = i;
+				return;
+			}
+		}
+	}
+
+	// Getters --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the render durations in nanoseconds by component key.
+	 */
+	Map<String, Long> getDurations() {
+		return durations;
+	}
+
+	/**
+	 * Returns the amount of components which are started but not yet stopped.
+	 */
+	int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Returns the given amount of slowest components, slowest first, with their durations in microseconds.
+	 */
+	Map<String, Long> getSlowest(int amount) {
+		Map<String, Long> slowest = new LinkedHashMap<>();
+		durations.entrySet().stream()
+			.sorted(Entry.<String, Long>comparingByValue().reversed())
+			.limit(amount)
+			.forEach(entry -> slowest.put(entry.getKey(), entry.getValue() / 1_000));
+		return slowest;
+	}
+
+	/**
+	 * Replaces iteration indexes in the given client ID by <code>*</code>, e.g. <code>form:table:3:name</code>
+	 * becomes <code>form:table:*:name</code>.
+	 */
+	String getComponentKey(String clientId) {
+		StringBuilder key = null;
+		int segmentStart = 0;
+
+		for (int i = 0; i <= clientId.length(); i++) {
+			if (i == clientId.length() || clientId.charAt(i) == separatorChar) {
+				if (i > segmentStart && isDigits(clientId, segmentStart, i)) {
+					if (key == null) {
+						key = new StringBuilder(clientId.length()).append(clientId, 0, segmentStart);
+					}
+
+					key.append('*');
+				}
+				else if (key != null) {
+					key.append(clientId, segmentStart, i);
+				}
+
+				if (key != null && i < clientId.length()) {
+					key.append(separatorChar);
+				}
+
+				segmentStart = i + 1;
+			}
+		}
+
+		return (key == null) ? clientId : key.toString();
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private static boolean isDigits(String string, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isDigit(string.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
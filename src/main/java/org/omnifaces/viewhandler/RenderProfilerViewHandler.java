@@ -0,0 +1,278 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.viewhandler;
+
+import static jakarta.faces.component.UINamingContainer.getSeparatorChar;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.logging.Level.FINE;
+import static org.omnifaces.util.FacesLocal.getInitParameter;
+import static org.omnifaces.util.FacesLocal.getServletContext;
+import static org.omnifaces.util.Utils.isEmpty;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import jakarta.faces.application.ViewHandler;
+import jakarta.faces.application.ViewHandlerWrapper;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.FacesContextWrapper;
+import jakarta.faces.render.RenderKit;
+import jakarta.faces.render.RenderKitWrapper;
+import jakarta.faces.render.Renderer;
+import jakarta.faces.render.RendererWrapper;
+
+/**
+ * <p>
+ * This {@link ViewHandler} once installed will measure for a sampled fraction of the view renderings how long each
+ * component subtree takes to render, and collect those durations per view ID in {@link ComponentRenderTimings}. This
+ * allows finding out which component subtree makes a view slow to render.
+ * <p>
+ * Sampled renderings use a {@link RenderKit} which wraps every {@link Renderer} in order to measure the time between
+ * the start of its <code>encodeBegin()</code> and the end of its <code>encodeEnd()</code>. Other renderings are not
+ * affected at all, so with a low sample rate the overhead is low enough to leave it on in production. Components
+ * without a renderer, such as plain Facelets text, are not measured by themselves but are included in the durations of
+ * their parents. Ajax renderings are not measured as the partial view context renders with the unwrapped faces
+ * context. For the same reason, only the faces context which is passed down the <code>encodeXxx()</code> methods is
+ * wrapped; {@link FacesContext#getCurrentInstance()} and thus {@link UIComponent#getFacesContext()} still return the
+ * unwrapped faces context during a sampled rendering. Any renderer which is obtained via the current instance instead
+ * of via the passed faces context, e.g. when a component or renderer encodes another component by itself, is not
+ * measured by itself and is instead included in the duration of its parent.
+ *
+ * <h2>Installation</h2>
+ * <p>
+ * Register it as <code>&lt;view-handler&gt;</code> in <code>faces-config.xml</code>.
+ * <pre>
+ * &lt;application&gt;
+ *     &lt;view-handler&gt;org.omnifaces.viewhandler.RenderProfilerViewHandler&lt;/view-handler&gt;
+ * &lt;/application&gt;
+ * </pre>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The fraction of view renderings to sample can be set with the {@value #PARAM_NAME_SAMPLE_RATE} context parameter,
+ * as a decimal number between <code>0</code> and <code>1</code>. The default is <code>0.01</code>, i.e. 1%.
+ * <p>
+ * When the logger of this class is enabled for {@link java.util.logging.Level#FINE}, then the slowest components of
+ * every sampled rendering are logged. Their amount can be set with the {@value #PARAM_NAME_TOP_COMPONENTS} context
+ * parameter. The default is <code>10</code>.
+ *
+ * @author Bauke Scholtz
+ * @since 4.4
+ * @see ComponentRenderTimings
+ */
+public class RenderProfilerViewHandler extends ViewHandlerWrapper {
+
+	// Public constants -----------------------------------------------------------------------------------------------
+
+	/** The context parameter name to specify the fraction of view renderings to sample. */
+	public static final String PARAM_NAME_SAMPLE_RATE = "org.omnifaces.RENDER_PROFILER_SAMPLE_RATE";
+
+	/** The context parameter name to specify the amount of slowest components to log per sampled rendering. */
+	public static final String PARAM_NAME_TOP_COMPONENTS = "org.omnifaces.RENDER_PROFILER_TOP_COMPONENTS";
+
+	// Private constants ----------------------------------------------------------------------------------------------
+
+	private static final Logger logger = Logger.getLogger(RenderProfilerViewHandler.class.getName());
+
+	private static final double DEFAULT_SAMPLE_RATE = 0.01;
+	private static final int DEFAULT_TOP_COMPONENTS = 10;
+
+	private static final String ERROR_INVALID_SAMPLE_RATE =
+		"Context parameter '" + PARAM_NAME_SAMPLE_RATE + "' must be a decimal number between 0 and 1. Encountered an invalid value of '%s'.";
+	private static final String ERROR_INVALID_TOP_COMPONENTS =
+		"Context parameter '" + PARAM_NAME_TOP_COMPONENTS + "' must be a positive number. Encountered an invalid value of '%s'.";
+	private static final String LOG_SLOWEST_COMPONENTS =
+		"Slowest components of %s in %dms: %s";
+
+	// Variables ------------------------------------------------------------------------------------------------------
+
+	private volatile Double sampleRate;
+	private volatile Integer topComponents;
+
+	// Constructors ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Construct a new render profiler view handler around the given wrapped view handler.
+	 * @param wrapped The wrapped view handler.
+	 */
+	public RenderProfilerViewHandler(ViewHandler wrapped) {
+		super(wrapped);
+	}
+
+	// Actions --------------------------------------------------------------------------------------------------------
+
+	/**
+	 * If the current rendering is sampled, then render the view with a profiling render kit and collect the durations.
+	 */
+	@Override
+	public void renderView(FacesContext context, UIViewRoot viewToRender) throws IOException {
+		if (ThreadLocalRandom.current().nextDouble() >= getSampleRate(context)) {
+			super.renderView(context, viewToRender);
+			return;
+		}
+
+		RenderProfile profile = new RenderProfile(getSeparatorChar(context));
+		long startTime = nanoTime();
+
+		try {
+			super.renderView(new ProfilingFacesContext(context, profile), viewToRender);
+		}
+		finally {
+			long duration = nanoTime() - startTime;
+			ComponentRenderTimings.getInstance(getServletContext(context)).record(viewToRender.getViewId(), profile.getDurations());
+
+			if (logger.isLoggable(FINE)) {
+				logger.fine(format(LOG_SLOWEST_COMPONENTS, viewToRender.getViewId(), duration / 1_000_000, profile.getSlowest(getTopComponents(context))));
+			}
+		}
+	}
+
+	// Helpers --------------------------------------------------------------------------------------------------------
+
+	private double getSampleRate(FacesContext context) {
+		if (sampleRate == null) {
+			String value = getInitParameter(context, PARAM_NAME_SAMPLE_RATE);
+			double rate = DEFAULT_SAMPLE_RATE;
+
+			if (!isEmpty(value)) {
+				try {
+					rate = Double.parseDouble(value.trim());
+				}
+				catch (NumberFormatException e) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_SAMPLE_RATE, value), e);
+				}
+
+				if (!(rate >= 0 && rate <= 1)) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_SAMPLE_RATE, value));
+				}
+			}
+
+			sampleRate = rate;
+		}
+
+		return sampleRate;
+	}
+
+	private int getTopComponents(FacesContext context) {
+		if (topComponents == null) {
+			String value = getInitParameter(context, PARAM_NAME_TOP_COMPONENTS);
+			int top = DEFAULT_TOP_COMPONENTS;
+
+			if (!isEmpty(value)) {
+				try {
+					top = Integer.parseInt(value.trim());
+				}
+				catch (NumberFormatException e) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_TOP_COMPONENTS, value), e);
+				}
+
+				if (top < 1) {
+					throw new IllegalArgumentException(format(ERROR_INVALID_TOP_COMPONENTS, value));
+				}
+			}
+
+			topComponents = top;
+		}
+
+		return topComponents;
+	}
+
+	// Nested classes -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Faces context which returns the profiling render kit during rendering.
+	 */
+	private static final class ProfilingFacesContext extends FacesContextWrapper {
+
+		private final RenderProfile profile;
+		private RenderKit renderKit;
+		private RenderKit profilingRenderKit;
+
+		private ProfilingFacesContext(FacesContext wrapped, RenderProfile profile) {
+			super(wrapped);
+			this.profile = profile;
+		}
+
+		@Override
+		public RenderKit getRenderKit() {
+			RenderKit currentRenderKit = super.getRenderKit();
+
+			if (currentRenderKit == null) {
+				return null;
+			}
+
+			if (currentRenderKit != renderKit) {
+				renderKit = currentRenderKit;
+				profilingRenderKit = new ProfilingRenderKit(currentRenderKit, profile);
+			}
+
+			return profilingRenderKit;
+		}
+	}
+
+	/**
+	 * Render kit which wraps every renderer in a profiling renderer.
+	 */
+	private static final class ProfilingRenderKit extends RenderKitWrapper {
+
+		private final RenderProfile profile;
+		private final Map<Renderer, Renderer> profilingRenderers = new IdentityHashMap<>();
+
+		private ProfilingRenderKit(RenderKit wrapped, RenderProfile profile) {
+			super(wrapped);
+			this.profile = profile;
+		}
+
+		@Override
+		public Renderer getRenderer(String family, String rendererType) {
+			Renderer renderer = super.getRenderer(family, rendererType);
+			return (renderer == null) ? null : profilingRenderers.computeIfAbsent(renderer, r -> new ProfilingRenderer(r, profile));
+		}
+	}
+
+	/**
+	 * Renderer which measures the time between the start of encodeBegin() and the end of encodeEnd().
+	 */
+	private static final class ProfilingRenderer extends RendererWrapper {
+
+		private final RenderProfile profile;
+
+		private ProfilingRenderer(Renderer wrapped, RenderProfile profile) {
+			super(wrapped);
+			this.profile = profile;
+		}
+
+		@Override
+		public void encodeBegin(FacesContext context, UIComponent component) throws IOException {
+			profile.start(component);
+			super.encodeBegin(context, component);
+		}
+
+		@Override
+		public void encodeEnd(FacesContext context, UIComponent component) throws IOException {
+			try {
+				super.encodeEnd(context, component);
+			}
+			finally {
+				profile.stop(context, component);
+			}
+		}
+	}
+
+}
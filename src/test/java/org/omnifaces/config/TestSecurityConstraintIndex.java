@@ -0,0 +1,129 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.config;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TestSecurityConstraintIndex {
+
+	private static SecurityConstraintIndex index(String... urlPatternsAndRoles) {
+		Map<String, Set<String>> securityConstraints = new LinkedHashMap<>();
+
+		for (int i = 0; i < urlPatternsAndRoles.length; i += 2) {
+			String role = urlPatternsAndRoles[i + 1];
+			securityConstraints.put(urlPatternsAndRoles[i], role == null ? emptySet() : singleton(role));
+		}
+
+		return new SecurityConstraintIndex(securityConstraints);
+	}
+
+	@Test
+	void testExactMatch() {
+		SecurityConstraintIndex index = index("/admin.xhtml", "admin");
+		assertTrue(index.isAccessAllowed("/admin.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/admin.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/admin.xhtml", null));
+		assertTrue(index.isAccessAllowed("/admin.xhtmlx", "user"));
+		assertTrue(index.isAccessAllowed("/other.xhtml", "user"));
+	}
+
+	@Test
+	void testExactMatchTakesPrecedenceOverPrefixMatch() {
+		SecurityConstraintIndex index = index("/admin/*", "admin", "/admin/public.xhtml", "user");
+		assertTrue(index.isAccessAllowed("/admin/public.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/admin/public.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/admin/other.xhtml", "user"));
+	}
+
+	@Test
+	void testLongestPrefixMatch() {
+		SecurityConstraintIndex index = index("/app/*", "user", "/app/admin/*", "admin");
+		assertTrue(index.isAccessAllowed("/app/page.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/app/page.xhtml", "admin"));
+		assertTrue(index.isAccessAllowed("/app/admin/page.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/app/admin/page.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/app/admin", "user"));
+		assertTrue(index.isAccessAllowed("/app/administration/page.xhtml", "user"));
+		assertTrue(index.isAccessAllowed("/application/page.xhtml", null));
+	}
+
+	@Test
+	void testExtensionMatch() {
+		SecurityConstraintIndex index = index("*.xhtml", "user");
+		assertTrue(index.isAccessAllowed("/page.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/page.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/folder/page.xhtml", null));
+		assertTrue(index.isAccessAllowed("/page.xhtmlx", null));
+		assertTrue(index.isAccessAllowed("/folder.xhtml/page", null));
+	}
+
+	@Test
+	void testExactAndPrefixMatchTakePrecedenceOverExtensionMatch() {
+		SecurityConstraintIndex index = index("*.xhtml", "user", "/admin/*", "admin", "/guest.xhtml", "guest");
+		assertTrue(index.isAccessAllowed("/admin/page.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/admin/page.xhtml", "user"));
+		assertTrue(index.isAccessAllowed("/guest.xhtml", "guest"));
+		assertFalse(index.isAccessAllowed("/guest.xhtml", "user"));
+		assertFalse(index.isAccessAllowed("/page.xhtml", null));
+	}
+
+	@Test
+	void testFirstDeclaredExtensionMatch() {
+		SecurityConstraintIndex index = index("*.gz", "user", "*.tar.gz", "admin");
+		assertTrue(index.isAccessAllowed("/file.tar.gz", "user"));
+		assertFalse(index.isAccessAllowed("/file.tar.gz", "admin"));
+	}
+
+	@Test
+	void testTrailingSlash() {
+		SecurityConstraintIndex index = index("/admin", "admin", "/app/*", "user");
+		assertFalse(index.isAccessAllowed("/admin/", "user"));
+		assertTrue(index.isAccessAllowed("/admin/", "admin"));
+		assertFalse(index.isAccessAllowed("/app/", "admin"));
+		assertFalse(index.isAccessAllowed("/app", "admin"));
+	}
+
+	@Test
+	void testDefaultPrefixMatch() {
+		SecurityConstraintIndex index = index("/*", "user", "/public/*", null);
+		assertFalse(index.isAccessAllowed("/", null));
+		assertFalse(index.isAccessAllowed("/page.xhtml", null));
+		assertTrue(index.isAccessAllowed("/page.xhtml", "user"));
+		assertTrue(index.isAccessAllowed("/public/page.xhtml", null));
+	}
+
+	@Test
+	void testAnyRole() {
+		SecurityConstraintIndex index = index("/app/*", "*");
+		assertTrue(index.isAccessAllowed("/app/page.xhtml", "user"));
+		assertTrue(index.isAccessAllowed("/app/page.xhtml", "admin"));
+		assertFalse(index.isAccessAllowed("/app/page.xhtml", null));
+	}
+
+	@Test
+	void testNoSecurityConstraints() {
+		SecurityConstraintIndex index = index();
+		assertTrue(index.isAccessAllowed("/", null));
+		assertTrue(index.isAccessAllowed("/page.xhtml", null));
+	}
+
+}
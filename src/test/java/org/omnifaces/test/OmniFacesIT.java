@@ -345,6 +345,8 @@ public abstract class OmniFacesIT {
 		withFacesViewsLowercasedRequestURI,
 		withMultiViews,
 		withThreeViewsInSession,
+		withPassivateIdleViewScopes,
+		withFindComponentIndex,
 		withSocket,
 		withClientStateSaving,
 		withCDNResources,
@@ -0,0 +1,87 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.cdi.viewscoped.passivation;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.omnifaces.test.OmniFacesIT.WebXml.withPassivateIdleViewScopes;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.omnifaces.test.OmniFacesIT;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+public class ViewScopedPassivationIT extends OmniFacesIT {
+
+	@FindBy(id="bean")
+	private WebElement bean;
+
+	@FindBy(id="submits")
+	private WebElement submits;
+
+	@FindBy(id="restored")
+	private WebElement restored;
+
+	@FindBy(id="newtab")
+	private WebElement newtab;
+
+	@FindBy(id="form:submit")
+	private WebElement submit;
+
+	@Deployment(testable=false)
+	public static WebArchive createDeployment() {
+		return buildWebArchive(ViewScopedPassivationIT.class)
+			.withWebXml(withPassivateIdleViewScopes)
+			.createDeployment();
+	}
+
+	@Test
+	void passivateAndRestore() throws InterruptedException {
+		String firstBean = bean.getText();
+		String firstTab = browser.getWindowHandle();
+		assertEquals("0", submits.getText());
+		assertEquals("false", restored.getText());
+
+		guardHttp(submit::click);
+		assertEquals(firstBean, bean.getText());
+		assertEquals("1", submits.getText());
+		assertEquals("false", restored.getText());
+
+
+		// Let view scope of first tab become idle; passivation is configured after 1 minute and checked once per minute.
+		Thread.sleep(MINUTES.toMillis(1) + SECONDS.toMillis(5));
+
+
+		// Accessing another view scope in same session passivates the idle one.
+		openNewTab(newtab);
+		assertNotEquals(firstBean, bean.getText());
+		assertEquals("0", submits.getText());
+
+		guardHttp(submit::click);
+		assertEquals("1", submits.getText());
+		assertEquals("false", restored.getText());
+		closeCurrentTabAndSwitchTo(firstTab);
+
+
+		// Accessing passivated view scope restores it with its state.
+		guardHttp(submit::click);
+		assertEquals(firstBean, bean.getText());
+		assertEquals("2", submits.getText());
+		assertEquals("true", restored.getText());
+	}
+
+}
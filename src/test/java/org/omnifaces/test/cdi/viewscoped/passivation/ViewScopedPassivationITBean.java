@@ -0,0 +1,56 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.cdi.viewscoped.passivation;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Named;
+
+import org.omnifaces.cdi.ViewScoped;
+
+@Named
+@ViewScoped
+public class ViewScopedPassivationITBean implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String uuid;
+	private int submits;
+	private transient boolean constructed;
+
+	@PostConstruct
+	public void init() {
+		uuid = UUID.randomUUID().toString();
+		constructed = true;
+	}
+
+	public void submit() {
+		submits++;
+	}
+
+	public int getSubmits() {
+		return submits;
+	}
+
+	public boolean isRestored() {
+		return !constructed; // Transient field is reset when this instance is restored from its passivated form.
+	}
+
+	@Override
+	public String toString() {
+		return getClass() + "@" + uuid;
+	}
+
+}
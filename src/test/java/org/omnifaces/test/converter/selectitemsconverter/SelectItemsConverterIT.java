@@ -12,8 +12,12 @@
  */
 package org.omnifaces.test.converter.selectitemsconverter;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,66 @@ public class SelectItemsConverterIT extends OmniFacesIT {
 	@FindBy(id="form:messages")
 	private WebElement messages;
 
+	@FindBy(id="duplicates:input")
+	private WebElement duplicatesInput;
+
+	@FindBy(id="duplicates:submit")
+	private WebElement duplicatesSubmit;
+
+	@FindBy(id="duplicates:output")
+	private WebElement duplicatesOutput;
+
+	@FindBy(id="duplicates:messages")
+	private WebElement duplicatesMessages;
+
+	@FindBy(id="noSelection:input")
+	private WebElement noSelectionInput;
+
+	@FindBy(id="noSelection:submit")
+	private WebElement noSelectionSubmit;
+
+	@FindBy(id="noSelection:output")
+	private WebElement noSelectionOutput;
+
+	@FindBy(id="noSelection:messages")
+	private WebElement noSelectionMessages;
+
+	@FindBy(id="emptyItem:input")
+	private WebElement emptyItemInput;
+
+	@FindBy(id="emptyItem:submit")
+	private WebElement emptyItemSubmit;
+
+	@FindBy(id="emptyItem:output")
+	private WebElement emptyItemOutput;
+
+	@FindBy(id="emptyItem:messages")
+	private WebElement emptyItemMessages;
+
+	@FindBy(id="multiple:input")
+	private WebElement multipleInput;
+
+	@FindBy(id="multiple:submit")
+	private WebElement multipleSubmit;
+
+	@FindBy(id="multiple:output")
+	private WebElement multipleOutput;
+
+	@FindBy(id="multiple:messages")
+	private WebElement multipleMessages;
+
+	@FindBy(id="multipleIndexed:input")
+	private WebElement multipleIndexedInput;
+
+	@FindBy(id="multipleIndexed:submit")
+	private WebElement multipleIndexedSubmit;
+
+	@FindBy(id="multipleIndexed:output")
+	private WebElement multipleIndexedOutput;
+
+	@FindBy(id="multipleIndexed:messages")
+	private WebElement multipleIndexedMessages;
+
 	@Deployment(testable=false)
 	public static WebArchive createDeployment() {
 		return createWebArchive(SelectItemsConverterIT.class);
@@ -49,4 +113,68 @@ public class SelectItemsConverterIT extends OmniFacesIT {
 		assertEquals("", messages.getText());
 	}
 
+	@Test
+	void testDuplicateStringConversions() {
+		new Select(duplicatesInput).selectByIndex(2);
+		guardAjax(duplicatesSubmit::click);
+		assertEquals("first", duplicatesOutput.getText()); // First select item with same string conversion wins.
+		assertEquals("", duplicatesMessages.getText());
+	}
+
+	@Test
+	void testNoSelectionOption() {
+		guardAjax(noSelectionSubmit::click);
+		assertEquals("", noSelectionOutput.getText());
+		assertEquals("", noSelectionMessages.getText());
+		assertEquals("Please select", new Select(noSelectionInput).getFirstSelectedOption().getText());
+
+		new Select(noSelectionInput).selectByIndex(3);
+		guardAjax(noSelectionSubmit::click);
+		assertEquals("Entity[3]", noSelectionOutput.getText());
+		assertEquals("", noSelectionMessages.getText());
+		assertEquals("name3", new Select(noSelectionInput).getFirstSelectedOption().getText());
+	}
+
+	@Test
+	void testEmptyItem() {
+		new Select(emptyItemInput).selectByIndex(3);
+		guardAjax(emptyItemSubmit::click);
+		assertEquals("", emptyItemOutput.getText());
+		assertEquals("", emptyItemMessages.getText());
+		assertEquals("None", new Select(emptyItemInput).getFirstSelectedOption().getText());
+
+		new Select(emptyItemInput).selectByIndex(1);
+		guardAjax(emptyItemSubmit::click);
+		assertEquals("Entity[2]", emptyItemOutput.getText());
+		assertEquals("", emptyItemMessages.getText());
+		assertEquals("name2", new Select(emptyItemInput).getFirstSelectedOption().getText());
+	}
+
+	@Test
+	void testMultipleSelection() {
+		Select select = new Select(multipleInput);
+		select.selectByIndex(0);
+		select.selectByIndex(2);
+		guardAjax(multipleSubmit::click);
+		assertEquals("[Entity[1], Entity[3]]", multipleOutput.getText());
+		assertEquals("", multipleMessages.getText());
+		assertEquals(asList("name1", "name3"), getSelectedLabels(multipleInput));
+	}
+
+	@Test
+	void testMultipleIndexedSelection() {
+		Select select = new Select(multipleIndexedInput);
+		select.selectByIndex(0);
+		select.selectByIndex(1);
+		select.selectByIndex(2);
+		guardAjax(multipleIndexedSubmit::click);
+		assertEquals("[Entity[1], Entity[2], Entity[3]]", multipleIndexedOutput.getText());
+		assertEquals("", multipleIndexedMessages.getText());
+		assertEquals(asList("name1", "name2", "name3"), getSelectedLabels(multipleIndexedInput));
+	}
+
+	private static List<String> getSelectedLabels(WebElement input) {
+		return new Select(input).getAllSelectedOptions().stream().map(WebElement::getText).collect(toList());
+	}
+
 }
\ No newline at end of file
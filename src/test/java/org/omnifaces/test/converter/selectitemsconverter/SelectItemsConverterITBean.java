@@ -25,7 +25,12 @@ import jakarta.inject.Named;
 public class SelectItemsConverterITBean {
 
 	private SelectItemsConverterITEntity selectedEntity;
+	private SelectItemsConverterITEntity selectedDuplicateEntity;
+	private SelectItemsConverterITEntity selectedIndexedEntity;
+	private List<SelectItemsConverterITEntity> selectedEntities;
+	private List<SelectItemsConverterITEntity> selectedIndexedEntities;
 	private List<SelectItemsConverterITEntity> availableEntities;
+	private List<SelectItemsConverterITEntity> duplicateEntities;
 
 	@PostConstruct
 	public void init() {
@@ -34,6 +39,11 @@ public class SelectItemsConverterITBean {
 			new SelectItemsConverterITEntity(2L),
 			new SelectItemsConverterITEntity(3L)
 		);
+		duplicateEntities = asList(
+			new SelectItemsConverterITEntity(1L),
+			new SelectItemsConverterITEntity(2L, "first"),
+			new SelectItemsConverterITEntity(2L, "second")
+		);
 	}
 
 	public SelectItemsConverterITEntity getSelectedEntity() {
@@ -48,4 +58,40 @@ public class SelectItemsConverterITBean {
 		return availableEntities;
 	}
 
+	public SelectItemsConverterITEntity getSelectedDuplicateEntity() {
+		return selectedDuplicateEntity;
+	}
+
+	public void setSelectedDuplicateEntity(SelectItemsConverterITEntity selectedDuplicateEntity) {
+		this.selectedDuplicateEntity = selectedDuplicateEntity;
+	}
+
+	public SelectItemsConverterITEntity getSelectedIndexedEntity() {
+		return selectedIndexedEntity;
+	}
+
+	public void setSelectedIndexedEntity(SelectItemsConverterITEntity selectedIndexedEntity) {
+		this.selectedIndexedEntity = selectedIndexedEntity;
+	}
+
+	public List<SelectItemsConverterITEntity> getSelectedEntities() {
+		return selectedEntities;
+	}
+
+	public void setSelectedEntities(List<SelectItemsConverterITEntity> selectedEntities) {
+		this.selectedEntities = selectedEntities;
+	}
+
+	public List<SelectItemsConverterITEntity> getSelectedIndexedEntities() {
+		return selectedIndexedEntities;
+	}
+
+	public void setSelectedIndexedEntities(List<SelectItemsConverterITEntity> selectedIndexedEntities) {
+		this.selectedIndexedEntities = selectedIndexedEntities;
+	}
+
+	public List<SelectItemsConverterITEntity> getDuplicateEntities() {
+		return duplicateEntities;
+	}
+
 }
\ No newline at end of file
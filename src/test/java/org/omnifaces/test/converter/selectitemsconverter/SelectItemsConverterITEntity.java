@@ -18,8 +18,12 @@ public class SelectItemsConverterITEntity {
 	private String name;
 
 	public SelectItemsConverterITEntity(Long id) {
+		this(id, "name" + id);
+	}
+
+	public SelectItemsConverterITEntity(Long id, String name) {
 		this.id = id;
-		this.name = "name" + id;
+		this.name = name;
 	}
 
 	public Long getId() {
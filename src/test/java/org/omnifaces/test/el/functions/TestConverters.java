@@ -0,0 +1,97 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.el.functions;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+import org.omnifaces.el.functions.Converters;
+
+public class TestConverters {
+
+	@Test
+	void testMapToListViewWithNonAscendingAccess() {
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		map.put("c", 3);
+		map.put("d", 4);
+		map.put("e", 5);
+
+		List<Entry<String, Integer>> view = Converters.mapToListView(map);
+		assertEquals(5, view.size());
+		assertEquals("d", view.get(3).getKey());
+		assertEquals("d", view.get(3).getKey());
+		assertEquals("b", view.get(1).getKey());
+		assertEquals("e", view.get(4).getKey());
+		assertEquals("a", view.get(0).getKey());
+		assertEquals("c", view.get(2).getKey());
+		assertEquals(Converters.mapToList(map), view);
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+	}
+
+	@Test
+	void testMapToListViewAfterStructuralModification() {
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+
+		List<Entry<String, Integer>> view = Converters.mapToListView(map);
+		assertEquals("a", view.get(0).getKey());
+
+		map.put("c", 3);
+		assertThrows(ConcurrentModificationException.class, () -> view.get(1)); // Documented limitation.
+		assertEquals(3, Converters.mapToListView(map).size());
+		assertEquals("c", Converters.mapToListView(map).get(2).getKey());
+	}
+
+	@Test
+	void testSplitArrayViewOverPrimitiveArray() {
+		int[] array = { 1, 2, 3, 4, 5, 6, 7 };
+		List<List<Object>> view = Converters.splitArrayView(array, 3);
+		assertEquals(asList(asList(1, 2, 3), asList(4, 5, 6), singletonList(7)), view);
+
+		array[6] = 8;
+		assertEquals(singletonList(8), view.get(2)); // It's a view, not a copy.
+
+		assertEquals(asList(asList('a', 'b'), singletonList('c')), Converters.splitArrayView(new char[] { 'a', 'b', 'c' }, 2));
+		assertEquals(0, Converters.splitArrayView(new int[0], 3).size());
+		assertThrows(IllegalArgumentException.class, () -> Converters.splitArrayView("not an array", 3));
+		assertThrows(IllegalArgumentException.class, () -> Converters.splitArrayView(array, 0));
+	}
+
+	@Test
+	void testSplitListViewWithShorterLastFragment() {
+		List<Integer> list = asList(1, 2, 3, 4, 5);
+		List<List<Integer>> view = Converters.splitListView(list, 2);
+		assertEquals(3, view.size());
+		assertEquals(asList(asList(1, 2), asList(3, 4), singletonList(5)), view);
+		assertEquals(1, view.get(2).size());
+		assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+		assertThrows(UnsupportedOperationException.class, () -> view.get(0).set(0, 9));
+
+		assertEquals(asList(asList(1, 2, 3, 4, 5)), Converters.splitListView(list, 5));
+		assertEquals(asList(asList(1, 2, 3, 4, 5)), Converters.splitListView(list, 6));
+	}
+
+}
@@ -29,6 +29,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.TimeZone;
 
@@ -302,4 +303,23 @@ public class TestDates {
 		}
 	}
 
+	@Test
+	void testFormatDateWithTimezoneWithDifferentPatternsLocalesAndZones() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("26 March 1978 12:35", Dates.formatDateWithTimezone(MY_BIRTH_DATE, "d MMMM yyyy HH:mm", UTC));
+			assertEquals("26 March 1978 14:35", Dates.formatDateWithTimezone(MY_BIRTH_DATE, "d MMMM yyyy HH:mm", ZP2));
+			assertEquals("26 March 1978 08:35", Dates.formatDateWithTimezone(MY_BIRTH_DATE, "d MMMM yyyy HH:mm", CUR));
+			assertEquals("Sun 26-03-78", Dates.formatDateWithTimezone(MY_BIRTH_DATE, "EEE dd-MM-yy", UTC));
+
+			Locale.setDefault(Locale.GERMAN);
+			assertEquals("26 März 1978 12:35", Dates.formatDateWithTimezone(MY_BIRTH_DATE, "d MMMM yyyy HH:mm", UTC));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
 }
@@ -15,7 +15,12 @@ package org.omnifaces.test.el.functions;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.omnifaces.el.functions.Numbers;
@@ -126,4 +131,83 @@ public class TestNumbers {
 		}
 	}
 
+	@Test
+	void testFormatNumberWithDifferentPatternsAndLocales() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("1,234.50", Numbers.formatNumber(1234.5, "#,##0.00"));
+			assertEquals("1234.5", Numbers.formatNumber(1234.5, "0.#"));
+			assertEquals("1,234.50", Numbers.formatNumber(1234.5, "#,##0.00"));
+
+			Locale.setDefault(Locale.GERMAN);
+			assertEquals("1.234,50", Numbers.formatNumber(1234.5, "#,##0.00"));
+			assertEquals("1234,5", Numbers.formatNumber(1234.5, "0.#"));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
+	@Test
+	void testFormatCurrencyWithDifferentSymbols() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("$1,234.50", Numbers.formatCurrency(1234.5, "$"));
+			assertEquals("€1,234.50", Numbers.formatCurrency(1234.5, "€"));
+			assertEquals("$1,234.50", Numbers.formatCurrency(1234.5, "$"));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
+	@Test
+	void testFormatPercentAndNumberDefault() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("25%", Numbers.formatPercent(0.25));
+			assertEquals("1,234.5", Numbers.formatNumberDefault(1234.5));
+			assertEquals("1.234,5", Numbers.formatNumberDefaultForLocale(1234.5, Locale.GERMAN));
+			assertEquals("1,234.5", Numbers.formatNumberDefault(1234.5));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
+	@Test
+	void testFormatNumberConcurrently() throws Exception {
+		Locale originalLocale = Locale.getDefault();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 8; i++) {
+				int offset = i;
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 10000; j++) {
+						long number = offset * 1000000L + j;
+						assertEquals(String.format(Locale.ENGLISH, "%,d.00", number), Numbers.formatNumber(number, "#,##0.00"));
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			Locale.setDefault(originalLocale);
+		}
+	}
+
 }
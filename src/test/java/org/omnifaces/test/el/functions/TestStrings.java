@@ -13,6 +13,18 @@
 package org.omnifaces.test.el.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.jupiter.api.Test;
 import org.omnifaces.el.functions.Strings;
@@ -38,4 +50,96 @@ public class TestStrings {
         assertEquals(expectedText, Strings.stripTags(textWithTags));
     }
 
+	@Test
+	void testReplaceAllWithCachedPattern() {
+		assertEquals("a-b-c", Strings.replaceAll("a b  c", "\\s+", "-"));
+		assertEquals("x-y", Strings.replaceAll("x   y", "\\s+", "-"));
+		assertEquals("a_b__c", Strings.replaceAll("a b  c", "\\s", "_"));
+		assertEquals("a-b-c", Strings.replaceAll("a b  c", "\\s+", "-"));
+		assertEquals("b-a", Strings.replaceAll("a-b", "(\\w)-(\\w)", "$2-$1"));
+		assertNull(Strings.replaceAll(null, "\\s+", "-"));
+		assertThrows(PatternSyntaxException.class, () -> Strings.replaceAll("a", "(", "-"));
+		assertThrows(PatternSyntaxException.class, () -> Strings.replaceAll("a", "(", "-")); // Invalid ones are not cached.
+	}
+
+	@Test
+	void testMatchesWithCachedPattern() {
+		assertTrue(Strings.matches("12345", "[0-9]+"));
+		assertFalse(Strings.matches("123a5", "[0-9]+"));
+		assertTrue(Strings.matches("67890", "[0-9]+"));
+		assertFalse(Strings.matches("12345", "[0-9]")); // Must match entire string.
+		assertTrue(Strings.matches("1", "[0-9]"));
+		assertFalse(Strings.matches(null, "[0-9]+"));
+	}
+
+	@Test
+	void testFormatWithDifferentLocales() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("Total: 1,234.50", Strings.format1("Total: {0,number,#,##0.00}", 1234.5));
+			assertEquals("Total: 42.00", Strings.format1("Total: {0,number,#,##0.00}", 42));
+			assertEquals("1,234.5 of 2", Strings.format2("{0,number} of {1}", 1234.5, 2));
+
+			Locale.setDefault(Locale.GERMAN);
+			assertEquals("Total: 1.234,50", Strings.format1("Total: {0,number,#,##0.00}", 1234.5));
+			assertEquals("1.234,5 of 2", Strings.format2("{0,number} of {1}", 1234.5, 2));
+
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("Total: 1,234.50", Strings.format1("Total: {0,number,#,##0.00}", 1234.5));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
+	@Test
+	void testFormatWithMultipleParameters() {
+		Locale originalLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			assertEquals("a b c", Strings.format3("{0} {1} {2}", "a", "b", "c"));
+			assertEquals("d c b a", Strings.format4("{3} {2} {1} {0}", "a", "b", "c", "d"));
+			assertEquals("a b c d e", Strings.format5("{0} {1} {2} {3} {4}", "a", "b", "c", "d", "e"));
+			assertEquals("no items", Strings.format1("{0,choice,0#no items|1#one item|1<{0} items}", 0));
+			assertEquals("one item", Strings.format1("{0,choice,0#no items|1#one item|1<{0} items}", 1));
+			assertEquals("3 items", Strings.format1("{0,choice,0#no items|1#one item|1<{0} items}", 3));
+			assertEquals("It's {0}", Strings.format1("It''s '{0}'", "ignored"));
+		}
+		finally {
+			Locale.setDefault(originalLocale);
+		}
+	}
+
+	@Test
+	void testFormatConcurrently() throws Exception {
+		Locale originalLocale = Locale.getDefault();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			Locale.setDefault(Locale.ENGLISH);
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 8; i++) {
+				int offset = i;
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 10000; j++) {
+						long number = offset * 1000000L + j;
+						assertEquals(String.format(Locale.ENGLISH, "%,d.00 by %d", number, offset), Strings.format2("{0,number,#,##0.00} by {1}", number, offset));
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			Locale.setDefault(originalLocale);
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omnifaces.io.SegmentedBufferOutputStream.SEGMENT_SIZE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.omnifaces.io.SegmentedBufferOutputStream;
+
+public class TestSegmentedBufferOutputStream {
+
+	@Test
+	void testWriteAcrossSegmentBoundary() throws IOException {
+		byte[] expected = bytes(SEGMENT_SIZE * 2 + 100, 1);
+
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream()) {
+			for (int i = 0; i < SEGMENT_SIZE - 1; i++) {
+				buffer.write(expected[i]);
+			}
+
+			buffer.write(expected, SEGMENT_SIZE - 1, 3);
+			buffer.write(expected, SEGMENT_SIZE + 2, SEGMENT_SIZE - 2);
+			buffer.write(expected[SEGMENT_SIZE * 2]);
+			buffer.write(expected, SEGMENT_SIZE * 2 + 1, 99);
+
+			assertFalse(buffer.isSpilled());
+			assertBuffered(expected, buffer);
+		}
+	}
+
+	@Test
+	void testSpillExactlyAtThreshold() throws IOException {
+		int threshold = SEGMENT_SIZE + 10;
+		byte[] expected = bytes(threshold + 1, 2);
+
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream(threshold)) {
+			buffer.write(expected, 0, threshold);
+			assertFalse(buffer.isSpilled());
+
+			buffer.write(expected[threshold]);
+			assertTrue(buffer.isSpilled());
+			assertBuffered(expected, buffer);
+		}
+
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream(threshold)) {
+			buffer.write(expected, 0, threshold + 1);
+			assertTrue(buffer.isSpilled());
+			assertBuffered(expected, buffer);
+		}
+	}
+
+	@Test
+	void testWriteToAndToByteArrayAfterSpill() throws IOException {
+		byte[] expected = bytes(SEGMENT_SIZE * 3 + 5, 3);
+
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream(100)) {
+			buffer.write(expected, 0, 50);
+			buffer.write(expected, 50, SEGMENT_SIZE * 2);
+			buffer.write(expected, SEGMENT_SIZE * 2 + 50, expected.length - SEGMENT_SIZE * 2 - 50);
+
+			assertTrue(buffer.isSpilled());
+			assertBuffered(expected, buffer);
+		}
+	}
+
+	@Test
+	void testResetAndReleaseThenReuse() throws IOException {
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream()) {
+			buffer.write(filled(SEGMENT_SIZE * 2, 'x'));
+			buffer.reset();
+			assertEquals(0, buffer.size());
+			assertBuffered(new byte[0], buffer);
+
+			buffer.write("abc".getBytes(UTF_8));
+			assertBuffered("abc".getBytes(UTF_8), buffer);
+
+			buffer.release();
+			buffer.write('d');
+			assertBuffered("d".getBytes(UTF_8), buffer);
+		}
+
+		// Segments released by another buffer are recycled via the pool and thus still hold their previous content.
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream()) {
+			buffer.write(filled(SEGMENT_SIZE + 1, 'y'));
+			buffer.release();
+		}
+
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream()) {
+			buffer.write("ef".getBytes(UTF_8));
+			assertBuffered("ef".getBytes(UTF_8), buffer);
+		}
+	}
+
+	@Test
+	void testReleaseAfterSpillThenReuse() throws IOException {
+		try (SegmentedBufferOutputStream buffer = new SegmentedBufferOutputStream(10)) {
+			buffer.write(filled(SEGMENT_SIZE, 'z'));
+			assertTrue(buffer.isSpilled());
+
+			buffer.release();
+			assertFalse(buffer.isSpilled());
+			assertEquals(0, buffer.size());
+
+			buffer.write("ghi".getBytes(UTF_8));
+			assertFalse(buffer.isSpilled());
+			assertBuffered("ghi".getBytes(UTF_8), buffer);
+		}
+	}
+
+	private static void assertBuffered(byte[] expected, SegmentedBufferOutputStream buffer) throws IOException {
+		assertEquals(expected.length, buffer.size());
+		assertArrayEquals(expected, buffer.toByteArray());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		buffer.writeTo(output);
+		assertArrayEquals(expected, output.toByteArray());
+
+		try (InputStream input = buffer.toInputStream()) {
+			byte[] actual = new byte[expected.length];
+
+			for (int i = 0; i < actual.length; i++) {
+				actual[i] = (byte) input.read();
+			}
+
+			assertArrayEquals(expected, actual);
+			assertEquals(-1, input.read());
+		}
+	}
+
+	private static byte[] bytes(int length, int seed) {
+		byte[] bytes = new byte[length];
+
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31 + seed);
+		}
+
+		return bytes;
+	}
+
+	private static byte[] filled(int length, char c) {
+		byte[] bytes = new byte[length];
+		Arrays.fill(bytes, (byte) c);
+		return bytes;
+	}
+
+}
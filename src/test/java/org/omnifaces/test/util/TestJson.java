@@ -0,0 +1,112 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.DayOfWeek;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.omnifaces.util.Json;
+
+public class TestJson {
+
+	@Test
+	void testEncodeLiterals() {
+		assertEquals("null", Json.encode(null));
+		assertEquals("true", Json.encode(true));
+		assertEquals("42", Json.encode(42));
+		assertEquals("\"string\"", Json.encode("string"));
+		assertEquals("\"MONDAY\"", Json.encode(DayOfWeek.MONDAY));
+	}
+
+	@Test
+	void testEncodeCollectionsMapsAndArrays() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("list", asList(1, 2));
+		map.put("array", new String[] { "a", "b" });
+		map.put("null", null);
+		assertEquals("{\"list\":[1,2],\"array\":[\"a\",\"b\"],\"null\":null}", Json.encode(map));
+	}
+
+	@Test
+	void testEncodeBean() {
+		String expected = "{\"count\":2,\"name\":\"name\"}"; // Null property "age" must be skipped.
+		assertEquals(expected, Json.encode(new Bean()));
+		assertEquals(expected, Json.encode(new Bean()), "Second encode must give same result from cached properties");
+		assertEquals("{\"COUNT\":2,\"NAME\":\"name\"}", Json.encode(new Bean(), String::toUpperCase));
+	}
+
+	@Test
+	void testEncodeNestedBeans() {
+		assertEquals("[{\"count\":2,\"name\":\"name\"},{\"count\":2,\"name\":\"name\"}]", Json.encode(asList(new Bean(), new Bean())));
+	}
+
+	@Test
+	void testEncodeToWriterAndOutputStream() throws IOException {
+		Object object = asList(new Bean(), "€");
+		String expected = Json.encode(object);
+
+		StringWriter writer = new StringWriter();
+		Json.encode(object, writer);
+		assertEquals(expected, writer.toString());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		Json.encode(object, output);
+		assertEquals(expected, new String(output.toByteArray(), UTF_8));
+	}
+
+	@Test
+	void testFailingGetterIsWrapped() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> Json.encode(new FailingBean()));
+		assertEquals(IllegalStateException.class, exception.getCause().getClass());
+	}
+
+	@Test
+	void testErroringGetterIsNotWrapped() {
+		assertThrows(AssertionError.class, () -> Json.encode(new ErroringBean()));
+	}
+
+	public static class Bean {
+		public String getName() {
+			return "name";
+		}
+		public Integer getAge() {
+			return null;
+		}
+		public int getCount() {
+			return 2;
+		}
+	}
+
+	public static class FailingBean {
+		public String getName() {
+			throw new IllegalStateException();
+		}
+	}
+
+	public static class ErroringBean {
+		public String getName() {
+			throw new AssertionError();
+		}
+	}
+
+}
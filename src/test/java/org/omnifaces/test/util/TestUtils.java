@@ -13,6 +13,11 @@
 package org.omnifaces.test.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 import org.omnifaces.util.Utils;
@@ -44,4 +49,39 @@ public class TestUtils {
 		assertEquals(RFC_3986_UNRESERVED_CHARACTERS, Utils.encodeURI(RFC_3986_UNRESERVED_CHARACTERS));
 	}
 
+	@Test
+	void testFormatRFC1123WithZeroPaddedDay() throws ParseException {
+		Date date = Date.from(Instant.parse("2008-06-03T11:05:30Z"));
+		assertEquals("Tue, 03 Jun 2008 11:05:30 GMT", Utils.formatRFC1123(date));
+		assertEquals(date, Utils.parseRFC1123("Tue, 03 Jun 2008 11:05:30 GMT"));
+		assertEquals(date, Utils.parseRFC1123("Tue, 3 Jun 2008 11:05:30 GMT"));
+	}
+
+	@Test
+	void testFormatRFC1123BeforeEpoch() throws ParseException {
+		assertEquals("Wed, 31 Dec 1969 23:59:59 GMT", Utils.formatRFC1123(new Date(-500)));
+		assertEquals("Mon, 01 Jan 1900 00:00:00 GMT", Utils.formatRFC1123(Date.from(Instant.parse("1900-01-01T00:00:00Z"))));
+		assertEquals(Date.from(Instant.parse("1900-01-01T00:00:00Z")), Utils.parseRFC1123("Mon, 01 Jan 1900 00:00:00 GMT"));
+	}
+
+	@Test
+	void testFormatRFC1123WithinSameSecond() {
+		long time = Instant.parse("2008-06-03T11:05:30Z").toEpochMilli();
+		assertEquals("Tue, 03 Jun 2008 11:05:30 GMT", Utils.formatRFC1123(new Date(time)));
+		assertEquals("Tue, 03 Jun 2008 11:05:30 GMT", Utils.formatRFC1123(new Date(time + 999)));
+		assertEquals("Tue, 03 Jun 2008 11:05:31 GMT", Utils.formatRFC1123(new Date(time + 1000)));
+		assertEquals("Tue, 03 Jun 2008 11:05:30 GMT", Utils.formatRFC1123(new Date(time + 1)));
+	}
+
+	@Test
+	void testParseRFC1123WithNonGMTZone() throws ParseException {
+		assertEquals(Date.from(Instant.parse("1994-11-06T16:49:37Z")), Utils.parseRFC1123("Sun, 06 Nov 1994 08:49:37 PST"));
+		assertEquals(Date.from(Instant.parse("1994-11-06T07:49:37Z")), Utils.parseRFC1123("Sun, 06 Nov 1994 08:49:37 CET"));
+	}
+
+	@Test
+	void testParseRFC1123WithInvalidDate() {
+		assertThrows(ParseException.class, () -> Utils.parseRFC1123("06 Nov 1994"));
+	}
+
 }
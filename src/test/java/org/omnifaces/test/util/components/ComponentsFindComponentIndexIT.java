@@ -0,0 +1,82 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.util.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.omnifaces.test.OmniFacesIT.WebXml.withFindComponentIndex;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.omnifaces.test.OmniFacesIT;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+public class ComponentsFindComponentIndexIT extends OmniFacesIT {
+
+	@FindBy(id="form:moved")
+	private WebElement moved;
+
+	@FindBy(id="form:renamed")
+	private WebElement renamed;
+
+	@FindBy(id="form:removed")
+	private WebElement removed;
+
+	@FindBy(id="form:relativeAndAbsolute")
+	private WebElement relativeAndAbsolute;
+
+	@FindBy(id="form:iterationIndex")
+	private WebElement iterationIndex;
+
+	@FindBy(id="result")
+	private WebElement result;
+
+	@Deployment(testable=false)
+	public static WebArchive createDeployment() {
+		return buildWebArchive(ComponentsFindComponentIndexIT.class)
+				.withWebXml(withFindComponentIndex)
+				.createDeployment();
+	}
+
+	@Test
+	void testMovedComponent() {
+		guardAjax(moved::click);
+		assertEquals("[true, true, true]", result.getText());
+	}
+
+	@Test
+	void testRenamedComponent() {
+		guardAjax(renamed::click);
+		assertEquals("[true, true, true]", result.getText());
+	}
+
+	@Test
+	void testRemovedComponent() {
+		guardAjax(removed::click);
+		assertEquals("[true, true]", result.getText());
+	}
+
+	@Test
+	void testRelativeAndAbsoluteSearchExpressions() {
+		guardAjax(relativeAndAbsolute::click);
+		assertEquals("[true, true, true, true, true, true, true, true, true, true]", result.getText());
+	}
+
+	@Test
+	void testIterationIndex() {
+		guardAjax(iterationIndex::click);
+		assertEquals("[true, true]", result.getText());
+	}
+
+}
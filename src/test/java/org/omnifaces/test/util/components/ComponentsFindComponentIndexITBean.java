@@ -0,0 +1,104 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.test.util.components;
+
+import static java.util.Arrays.asList;
+import static org.omnifaces.util.Components.findComponent;
+import static org.omnifaces.util.Components.findComponentInParents;
+
+import java.util.List;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.inject.Named;
+
+@Named
+@RequestScoped
+public class ComponentsFindComponentIndexITBean {
+
+	private List<Boolean> result;
+
+	public void moved() {
+		UIComponent form = findComponent("form");
+		UIComponent other = findComponent("other");
+		UIComponent dynamic = createDynamic(form);
+		boolean found = findComponent("form:dynamic") == dynamic;
+		form.getChildren().remove(dynamic);
+		other.getChildren().add(dynamic);
+		boolean notFoundAtOldPlace = findComponent("form:dynamic") == null;
+		boolean foundAtNewPlace = findComponent("other:dynamic") == dynamic;
+		other.getChildren().remove(dynamic);
+		result = asList(found, notFoundAtOldPlace, foundAtNewPlace);
+	}
+
+	public void renamed() {
+		UIComponent form = findComponent("form");
+		UIComponent dynamic = createDynamic(form);
+		boolean found = findComponent("form:dynamic") == dynamic;
+		dynamic.setId("dynamicRenamed");
+		boolean notFoundByOldId = findComponent("form:dynamic") == null;
+		boolean foundByNewId = findComponent("form:dynamicRenamed") == dynamic;
+		form.getChildren().remove(dynamic);
+		result = asList(found, notFoundByOldId, foundByNewId);
+	}
+
+	public void removed() {
+		UIComponent form = findComponent("form");
+		UIComponent dynamic = createDynamic(form);
+		boolean found = findComponent("form:dynamic") == dynamic;
+		form.getChildren().remove(dynamic);
+		boolean notFound = findComponent("form:dynamic") == null;
+		result = asList(found, notFound);
+	}
+
+	public void relativeAndAbsolute() {
+		UIComponent form = findComponent("form");
+		UIComponent nested = findComponent("form:nested");
+		UIComponent dynamic = createDynamic(nested);
+		boolean foundRelatively = findComponentInParents(form, "nested:dynamic") == dynamic;
+		boolean foundAbsolutely = findComponent(":form:nested:dynamic") == dynamic;
+		boolean foundAbsolutelyInParents = findComponentInParents(form, ":form:nested:dynamic") == dynamic;
+		boolean notFoundFromRoot = findComponent("nested:dynamic") == null;
+		boolean foundRelativelyAgain = findComponentInParents(form, "nested:dynamic") == dynamic;
+		boolean foundAbsolutelyAgain = findComponent(":form:nested:dynamic") == dynamic;
+		boolean notFoundFromRootAgain = findComponent("nested:dynamic") == null;
+		nested.getChildren().remove(dynamic);
+		form.getChildren().add(dynamic);
+		boolean notFoundRelativelyAfterMove = findComponentInParents(form, "nested:dynamic") == null;
+		boolean notFoundAbsolutelyAfterMove = findComponent(":form:nested:dynamic") == null;
+		boolean foundRelativelyAfterMove = findComponentInParents(form, "dynamic") == dynamic;
+		form.getChildren().remove(dynamic);
+		result = asList(foundRelatively, foundAbsolutely, foundAbsolutelyInParents, notFoundFromRoot, foundRelativelyAgain,
+			foundAbsolutelyAgain, notFoundFromRootAgain, notFoundRelativelyAfterMove, notFoundAbsolutelyAfterMove, foundRelativelyAfterMove);
+	}
+
+	public void iterationIndex() {
+		UIComponent form = findComponent("form");
+		UIComponent item = findComponentInParents(form, "repeat:1:item");
+		boolean found = item != null && "item".equals(item.getId());
+		boolean foundAgain = findComponentInParents(form, "repeat:1:item") == item;
+		result = asList(found, foundAgain);
+	}
+
+	private static UIComponent createDynamic(UIComponent parent) {
+		UIComponent dynamic = new HtmlOutputText();
+		dynamic.setId("dynamic");
+		parent.getChildren().add(dynamic);
+		return dynamic;
+	}
+
+	public List<Boolean> getResult() {
+		return result;
+	}
+}
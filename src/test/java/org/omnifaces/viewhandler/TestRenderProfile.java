@@ -0,0 +1,138 @@
+/*
+ * Copyright OmniFaces
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.omnifaces.viewhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.UIOutput;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.Test;
+
+public class TestRenderProfile {
+
+	private static UIComponent component(String clientId) {
+		return new UIOutput() {
+			@Override
+			public String getClientId(FacesContext context) {
+				return clientId;
+			}
+		};
+	}
+
+	@Test
+	void testGetComponentKey() {
+		RenderProfile profile = new RenderProfile(':');
+		String clientId = "form:name";
+		assertSame(clientId, profile.getComponentKey(clientId)); // Nothing to replace, so no new string.
+		assertEquals("form:table:*:name", profile.getComponentKey("form:table:3:name"));
+		assertEquals("form:outer:*:inner:*:name", profile.getComponentKey("form:outer:12:inner:0:name"));
+		assertEquals("*:name", profile.getComponentKey("0:name"));
+		assertEquals("form:table:*", profile.getComponentKey("form:table:3"));
+		assertEquals("form:table3:name", profile.getComponentKey("form:table3:name"));
+		assertEquals("form:3a:name", profile.getComponentKey("form:3a:name"));
+		assertEquals(":form:*:name", profile.getComponentKey(":form:1:name"));
+		assertEquals("form::name", profile.getComponentKey("form::name"));
+		assertEquals("", profile.getComponentKey(""));
+		assertEquals("form_table_*_name", new RenderProfile('_').getComponentKey("form_table_3_name"));
+		assertEquals("form:table_3:name", new RenderProfile('_').getComponentKey("form:table_3:name"));
+	}
+
+	@Test
+	void testStartAndStop() {
+		RenderProfile profile = new RenderProfile(':');
+		UIComponent form = component("form");
+		UIComponent name0 = component("form:table:0:name");
+		UIComponent name1 = component("form:table:1:name");
+
+		profile.start(form);
+		profile.start(name0);
+		profile.stop(null, name0);
+		profile.start(name1);
+		profile.stop(null, name1);
+		profile.stop(null, form);
+
+		assertEquals(0, profile.getDepth());
+		assertEquals(Set.of("form", "form:table:*:name"), profile.getDurations().keySet());
+		assertTrue(profile.getDurations().get("form") >= profile.getDurations().get("form:table:*:name")); // Parent includes children.
+		assertEquals(2, profile.getSlowest(5).size());
+		assertEquals(1, profile.getSlowest(1).size());
+		assertEquals("form", profile.getSlowest(1).keySet().iterator().next());
+	}
+
+	@Test
+	void testUnwindAfterException() {
+		RenderProfile profile = new RenderProfile(':');
+		UIComponent form = component("form");
+		UIComponent panel = component("form:panel");
+		UIComponent failing = component("form:failing");
+		UIComponent nested = component("form:failing:nested");
+
+		profile.start(form);
+		profile.start(panel);
+		profile.start(failing);
+		profile.start(nested);
+		assertEquals(4, profile.getDepth());
+
+		// The failing component and its nested component threw an exception in encodeBegin() and never stopped.
+		profile.stop(null, panel);
+		assertEquals(1, profile.getDepth());
+		assertTrue(profile.getDurations().containsKey("form:panel"));
+		assertFalse(profile.getDurations().containsKey("form:failing"));
+		assertFalse(profile.getDurations().containsKey("form:failing:nested"));
+
+		// Stopping a component which was unwound from the stack is ignored.
+		profile.stop(null, failing);
+		assertEquals(1, profile.getDepth());
+		assertFalse(profile.getDurations().containsKey("form:failing"));
+
+		// Subsequent components are still measured against the right parent.
+		UIComponent next = component("form:next");
+		profile.start(next);
+		profile.stop(null, next);
+		profile.stop(null, form);
+		assertEquals(0, profile.getDepth());
+		assertEquals(Set.of("form", "form:panel", "form:next"), profile.getDurations().keySet());
+
+		// Stopping on an empty stack is ignored as well.
+		profile.stop(null, form);
+		assertEquals(0, profile.getDepth());
+	}
+
+	@Test
+	void testDeepNesting() {
+		RenderProfile profile = new RenderProfile(':');
+		UIComponent[] components = new UIComponent[100];
+
+		for (int i = 0; i < components.length; i++) {
+			components[i] = component("c" + i);
+			profile.start(components[i]);
+		}
+
+		assertEquals(components.length, profile.getDepth());
+
+		for (int i = components.length - 1; i >= 0; i--) {
+			profile.stop(null, components[i]);
+		}
+
+		assertEquals(0, profile.getDepth());
+		assertEquals(components.length, profile.getDurations().size());
+	}
+
+}